@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values (RFC 4180) one record at a time.
+ *
+ * Fields may be quoted with double quotes, in which case they may contain commas, line breaks and doubled double
+ * quotes. Records end with either {@code \n} or {@code \r\n}, and a byte order mark at the start is ignored.
+ * Only one record is held in memory at a time, so files of any length can be read.
+ */
+public class CsvReader implements AutoCloseable {
+
+    private static final int EOF = -1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean isAtStart = true;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     *
+     * @throws IOException if the reader fails, or a quoted field is not closed before the end of the input.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (isAtStart) {
+            isAtStart = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+        if (c == EOF) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == EOF) {
+                    throw new IOException("A quoted field is not closed before the end of the file.");
+                } else if (c != '"') {
+                    field.append((char) c);
+                } else {
+                    c = read();
+                    if (c != '"') {
+                        // The closing quote; anything up to the next separator is kept as is
+                        isQuoted = false;
+                        continue;
+                    }
+                    field.append('"');
+                }
+            } else if (c == EOF || c == '\n') {
+                break;
+            } else if (c == '\r') {
+                c = read();
+                if (c == '\n' || c == EOF) {
+                    break;
+                }
+                field.append('\r');
+                continue;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+}
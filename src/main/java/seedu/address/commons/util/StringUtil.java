@@ -65,4 +65,18 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits 0 to 9, which are the characters matched by {@code \\d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII uppercase letters A to Z.
+     */
+    public static boolean isAsciiUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
 }
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Shares one instance among the values created from equal strings, for as long as that instance is in use.
+ *
+ * Instances are only weakly held, so values that are no longer referenced elsewhere, such as those parsed from a
+ * command that failed, are discarded by the garbage collector instead of being kept for the life of the process.
+ *
+ * @param <T> the type of the values, which must be immutable
+ */
+public class WeakInterner<T> {
+
+    // Keyed by the string that each instance holds, so that an entry lives exactly as long as its instance
+    private final Map<String, WeakReference<T>> instances = new WeakHashMap<>();
+    private final Function<String, T> factory;
+    private final Function<T, String> keyOf;
+
+    /**
+     * Creates a {@code WeakInterner} that creates values with {@code factory}.
+     * {@code keyOf} must return the very string instance that a value was created from.
+     */
+    public WeakInterner(Function<String, T> factory, Function<T, String> keyOf) {
+        requireNonNull(factory);
+        requireNonNull(keyOf);
+        this.factory = factory;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the instance in use for {@code key}, creating it if there is none.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = instances.get(key);
+        T instance = reference != null ? reference.get() : null;
+        if (instance == null) {
+            instance = factory.apply(key);
+            // A stale entry keeps its old key, whose lifetime is unrelated to the new instance
+            instances.remove(key);
+            instances.put(keyOf.apply(instance), new WeakReference<>(instance));
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Executes commands through a {@code Logic} on a dedicated background thread, so that the JavaFX application thread
+ * stays responsive while a command runs.
+ *
+ * Commands are executed one at a time, in the order they were submitted. Outcomes are reported, and the displayed
+ * list of persons is updated to match the filtered list of the {@code Logic}, on the JavaFX application thread.
+ * The persons that each command removed from the address book are reported there too, as persons that are only
+ * filtered out of the displayed list cannot be told apart from removed ones.
+ * Once an executor is created, the {@code Logic} must only be used through it, except for its GUI settings.
+ */
+public class BackgroundCommandExecutor {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundCommandExecutor.class);
+
+    private final Logic logic;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only accessed on the background thread, once commands are submitted
+    private final List<Person> removedPersons = new ArrayList<>();
+
+    // Only accessed on the JavaFX application thread
+    private final ObservableList<Person> displayedPersons;
+    private final ObservableList<Person> unmodifiableDisplayedPersons;
+    private Consumer<Boolean> busyHandler = isBusy -> { };
+    private Consumer<List<Person>> removedPersonsHandler = persons -> { };
+    private int pendingCommands;
+
+    /**
+     * Creates a {@code BackgroundCommandExecutor} that executes commands through {@code logic}.
+     */
+    public BackgroundCommandExecutor(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        displayedPersons = FXCollections.observableArrayList(logic.getFilteredPersonList());
+        unmodifiableDisplayedPersons = FXCollections.unmodifiableObservableList(displayedPersons);
+        // The address book is only changed by commands, so this listener is only called on the background thread
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removedPersons.addAll(change.getRemoved());
+            }
+        });
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of persons that is only changed on the JavaFX application
+     * thread, after each command.
+     */
+    public ObservableList<Person> getDisplayedPersonList() {
+        return unmodifiableDisplayedPersons;
+    }
+
+    /**
+     * Sets the handler that is told whether any command is waiting or running, whenever that changes.
+     * The handler is called on the JavaFX application thread.
+     */
+    public void setBusyHandler(Consumer<Boolean> busyHandler) {
+        requireNonNull(busyHandler);
+        this.busyHandler = busyHandler;
+    }
+
+    /**
+     * Sets the handler that is given the persons that were removed from the address book, after each command that
+     * removed any. Edited persons count as removed, as they are replaced by new persons.
+     * The handler is called on the JavaFX application thread, after the displayed persons have been updated.
+     */
+    public void setRemovedPersonsHandler(Consumer<List<Person>> removedPersonsHandler) {
+        requireNonNull(removedPersonsHandler);
+        this.removedPersonsHandler = removedPersonsHandler;
+    }
+
+    /**
+     * Schedules {@code commandText} to be executed after every previously submitted command.
+     * Once it has been executed, {@code resultHandler} is given its result, or {@code failureHandler} is given the
+     * exception that it failed with, on the JavaFX application thread.
+     * Must be called on the JavaFX application thread, and returns without waiting for the command.
+     */
+    public void execute(String commandText, Consumer<CommandResult> resultHandler,
+            Consumer<Exception> failureHandler) {
+        requireNonNull(commandText);
+        requireNonNull(resultHandler);
+        requireNonNull(failureHandler);
+
+        runInBackground(() -> {
+            CommandResult commandResult = null;
+            Exception failure = null;
+            try {
+                commandResult = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while executing command: " + StringUtil.getDetails(e));
+                failure = e;
+            }
+
+            CommandResult result = commandResult;
+            Exception exception = failure;
+            return () -> {
+                if (exception == null) {
+                    resultHandler.accept(result);
+                } else {
+                    failureHandler.accept(exception);
+                }
+            };
+        });
+    }
+
+    /**
+     * Schedules the address book to be exported after every previously submitted command, and gives
+     * {@code messageHandler} the message that tells whether it was exported, on the JavaFX application thread.
+     * Must be called on the JavaFX application thread.
+     *
+     * @see Logic#exportAddressBook()
+     */
+    public void exportAddressBook(Consumer<String> messageHandler) {
+        requireNonNull(messageHandler);
+        runInBackground(() -> {
+            String message = logic.exportAddressBook();
+            return () -> messageHandler.accept(message);
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread after every previously submitted task. Once it is done, the
+     * displayed persons are updated, the removed persons are reported and the outcome that {@code task} returned is
+     * run on the JavaFX application thread. Tasks submitted after shutting down are ignored.
+     */
+    private void runInBackground(Supplier<Runnable> task) {
+        if (executor.isShutdown()) {
+            logger.info("Ignoring a command submitted after shutting down");
+            return;
+        }
+        if (pendingCommands++ == 0) {
+            busyHandler.accept(true);
+        }
+        executor.execute(() -> {
+            Runnable outcome = task.get();
+            List<Person> persons = new ArrayList<>(logic.getFilteredPersonList());
+            List<Person> removed = List.copyOf(removedPersons);
+            removedPersons.clear();
+            Platform.runLater(() -> {
+                updateDisplayedPersons(persons);
+                if (!removed.isEmpty()) {
+                    removedPersonsHandler.accept(removed);
+                }
+                if (--pendingCommands == 0) {
+                    busyHandler.accept(false);
+                }
+                outcome.run();
+            });
+        });
+    }
+
+    /**
+     * Blocks until every command submitted so far has been executed.
+     * Their outcomes may not have been reported yet.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Executes the remaining commands, stops the background thread and blocks until it has stopped.
+     * Commands submitted afterwards are ignored. Shutting down again only waits for the thread to stop.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executes the remaining commands and stops the background thread, without waiting for it.
+     * Once every remaining command has been executed, {@code terminationHandler} is run on the JavaFX application
+     * thread. Commands submitted afterwards are ignored. Does nothing if already shut down.
+     */
+    public void shutdown(Runnable terminationHandler) {
+        requireNonNull(terminationHandler);
+        if (executor.isShutdown()) {
+            return;
+        }
+        // The executor runs tasks in order, so this runs after every remaining command
+        executor.execute(() -> Platform.runLater(terminationHandler));
+        executor.shutdown();
+    }
+
+    /**
+     * Changes the displayed persons to {@code persons}, replacing only the range of persons that differs, so that
+     * the persons around an edit keep their place in the list views.
+     */
+    private void updateDisplayedPersons(List<Person> persons) {
+        int start = 0;
+        int oldEnd = displayedPersons.size();
+        int newEnd = persons.size();
+        while (start < oldEnd && start < newEnd && displayedPersons.get(start) == persons.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && displayedPersons.get(oldEnd - 1) == persons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        if (oldEnd > start) {
+            displayedPersons.remove(start, oldEnd);
+        }
+        if (newEnd > start) {
+            displayedPersons.addAll(start, persons.subList(start, newEnd));
+        }
+    }
+}
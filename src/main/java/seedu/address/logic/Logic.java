@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that receives a message for the user whenever saving the address book fails.
+     * Saving happens in the background, so the handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until every save requested by previously executed commands has been written, or has failed.
+     */
+    void flushPendingSaves();
+
+    /**
+     * Writes the address book to its data file in json format, so that it can be read and edited by hand.
+     * Returns a message for the user that tells whether it was written.
+     */
+    String exportAddressBook();
+
     /**
      * Returns the AddressBook.
      *
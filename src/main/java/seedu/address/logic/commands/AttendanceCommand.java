@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -116,7 +118,7 @@ public class AttendanceCommand extends Command {
      */
     private CommandResult markAttendanceForStudent(Model model, Person student) {
         // Check if attendance already exists for this week
-        AttendanceStatus previousStatus = student.getAttendanceRecord().getAllAttendances().get(week);
+        AttendanceStatus previousStatus = student.getAttendanceRecord().getAttendance(week);
 
         // Handle unmark operation differently
         AttendanceRecord updatedAttendanceRecord;
@@ -127,17 +129,7 @@ public class AttendanceCommand extends Command {
         }
 
         // Create updated person with new attendance record
-        Person updatedStudent = new Person(
-                student.getName(),
-                student.getStudentId(),
-                student.getEmail(),
-                student.getModuleCodes(),
-                student.getTags(),
-                updatedAttendanceRecord,
-                student.getGrades(),
-                student.getConsultations(),
-                student.getRemark()
-        );
+        Person updatedStudent = student.withAttendanceRecord(updatedAttendanceRecord);
 
         // Update the student in the model
         model.setPerson(student, updatedStudent);
@@ -164,7 +156,7 @@ public class AttendanceCommand extends Command {
      */
     private CommandResult executeMarkAll(Model model) throws CommandException {
         List<Person> allStudents = model.getAddressBook().getPersonList();
-        int markedCount = 0;
+        Map<Person, Person> updatedStudents = new IdentityHashMap<>();
 
         for (Person student : allStudents) {
             // Handle unmark operation differently
@@ -176,23 +168,13 @@ public class AttendanceCommand extends Command {
             }
 
             // Create updated person with new attendance record
-            Person updatedStudent = new Person(
-                    student.getName(),
-                    student.getStudentId(),
-                    student.getEmail(),
-                    student.getModuleCodes(),
-                    student.getTags(),
-                    updatedAttendanceRecord,
-                    student.getGrades(),
-                    student.getConsultations(),
-                    student.getRemark()
-            );
-
-            // Update the student in the model
-            model.setPerson(student, updatedStudent);
-            markedCount++;
+            updatedStudents.put(student, student.withAttendanceRecord(updatedAttendanceRecord));
         }
 
+        // Update all students in the model at once
+        model.setPersons(updatedStudents);
+        int markedCount = updatedStudents.size();
+
         String message = status == AttendanceStatus.UNMARK
                 ? String.format("✓ Unmarked attendance for all students: Week %s (%d students)",
                         week.value, markedCount)
@@ -108,16 +108,7 @@ public class DeleteGradeCommand extends Command {
             }
         }
 
-        // Use student constructor if phone/address are null
-        if (person.getPhone() == null || person.getAddress() == null) {
-            return new Person(person.getName(), person.getStudentId(), person.getEmail(),
-                    person.getModuleCodes(), person.getTags(), person.getAttendanceRecord(),
-                    updatedGrades, person.getConsultations(), person.getRemark());
-        } else {
-            return new Person(person.getName(), person.getPhone(), person.getEmail(),
-                    person.getAddress(), person.getTags(), person.getStudentId(),
-                    person.getModuleCodes(), updatedGrades);
-        }
+        return person.withGrades(updatedGrades);
     }
 
     @Override
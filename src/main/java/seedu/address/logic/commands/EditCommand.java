@@ -122,7 +122,9 @@ public class EditCommand extends Command {
         // Check for duplicate email if the email is being changed
         if (editedPerson.getEmail() != null && personToEdit.getEmail() != null) {
             if (!editedPerson.getEmail().equals(personToEdit.getEmail())) {
-                var existingPerson = model.getPersonByEmail(editedPerson.getEmail());
+                // Emails match case-insensitively, so a change of case alone finds the person being edited
+                var existingPerson = model.getPersonByEmail(editedPerson.getEmail())
+                        .filter(person -> !person.equals(personToEdit));
                 if (existingPerson.isPresent()) {
                     throw new CommandException(String.format(MESSAGE_DUPLICATE_EMAIL,
                             editedPerson.getEmail()));
@@ -0,0 +1,198 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RosterCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.attendance.Week;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JournaledAddressBookStorage;
+
+/**
+ * Writes the grades and attendance of the displayed students to a CSV file.
+ *
+ * Each student is one row, with a column for every assignment graded for any displayed student and for every week.
+ * Rows are written as they are formatted, so only one row is held in memory at a time. They are written to a
+ * temporary file that replaces the target file once complete, so a failed export leaves the target file unchanged.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the grades and attendance of the displayed students to a CSV file. "
+            + "An existing file is overwritten.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/CS2103T_grades.csv";
+
+    public static final String MESSAGE_SUCCESS = "✓ Exported %1$s to %2$s";
+    public static final String MESSAGE_WRITE_FAILURE = "Cannot export: The file %1$s could not be written: %2$s";
+    public static final String MESSAGE_DATA_FILE = "Cannot export: %1$s holds TeachMate's data. "
+            + "Choose another file.";
+    public static final String WEEK_COLUMN_FORMAT = "Week %1$d";
+
+    // Assignments are listed in the order used when showing grades, with case-sensitive ties broken consistently
+    private static final Comparator<String> ASSIGNMENT_ORDER =
+            String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+    private static final List<String> STUDENT_COLUMNS = List.of(RosterCsvParser.COLUMN_NAME,
+            RosterCsvParser.COLUMN_STUDENT_ID, RosterCsvParser.COLUMN_EMAIL, RosterCsvParser.COLUMN_MODULES);
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the displayed students to the CSV file at {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isStorageFile(model.getAddressBookFilePath())) {
+            throw new CommandException(String.format(MESSAGE_DATA_FILE, filePath));
+        }
+        List<Person> persons = model.getFilteredPersonList();
+
+        SortedSet<String> assignmentNames = new TreeSet<>(ASSIGNMENT_ORDER);
+        for (Person person : persons) {
+            for (Grade grade : person.getGrades()) {
+                assignmentNames.add(grade.assignmentName);
+            }
+        }
+        Map<String, Integer> gradeColumns = new HashMap<>();
+        for (String assignmentName : assignmentNames) {
+            gradeColumns.put(assignmentName, STUDENT_COLUMNS.size() + gradeColumns.size());
+        }
+        int firstWeekColumn = STUDENT_COLUMNS.size() + assignmentNames.size();
+
+        Path tempPath = null;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Path absolutePath = filePath.toAbsolutePath();
+            tempPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+            try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8))) {
+                writer.writeRecord(getHeader(assignmentNames));
+
+                String[] row = new String[firstWeekColumn + Week.MAX_WEEK];
+                for (Person person : persons) {
+                    Arrays.fill(row, null);
+                    fillStudentColumns(row, person);
+                    for (Grade grade : person.getGrades()) {
+                        row[gradeColumns.get(grade.assignmentName)] = grade.score;
+                    }
+                    fillWeekColumns(row, firstWeekColumn, person.getAttendanceRecord());
+                    writer.writeRecord(row);
+                }
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(tempPath);
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILURE, filePath, e.getMessage()));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                Messages.formatCount(persons.size(), "student"), filePath));
+    }
+
+    /**
+     * Returns true if {@code filePath} is one of the files that hold the address book stored at
+     * {@code addressBookFilePath}, which an export must not overwrite.
+     */
+    private boolean isStorageFile(Path addressBookFilePath) {
+        Path target = filePath.toAbsolutePath().normalize();
+        return JournaledAddressBookStorage.getStorageFilePaths(addressBookFilePath).stream()
+                .anyMatch(path -> path.toAbsolutePath().normalize().equals(target));
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // The export has already failed, and a leftover temporary file does no harm
+        }
+    }
+
+    private static String[] getHeader(SortedSet<String> assignmentNames) {
+        List<String> header = new ArrayList<>(STUDENT_COLUMNS);
+        header.addAll(assignmentNames);
+        for (int week = 1; week <= Week.MAX_WEEK; week++) {
+            header.add(String.format(WEEK_COLUMN_FORMAT, week));
+        }
+        return header.toArray(new String[0]);
+    }
+
+    /**
+     * Fills the columns that identify {@code person}, in the layout that the import command reads.
+     */
+    private static void fillStudentColumns(String[] row, Person person) {
+        row[0] = person.getName().fullName;
+        row[1] = person.getStudentId() != null ? person.getStudentId().value : null;
+        row[2] = person.getEmail().value;
+        row[3] = person.getModuleCodes().stream()
+                .map(moduleCode -> moduleCode.value)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private static void fillWeekColumns(String[] row, int firstWeekColumn, AttendanceRecord attendanceRecord) {
+        if (attendanceRecord.isEmpty()) {
+            return;
+        }
+        for (int week = 1; week <= Week.MAX_WEEK; week++) {
+            AttendanceStatus status = attendanceRecord.getAttendance(Week.of(week));
+            if (status != null) {
+                row[firstWeekColumn + week - 1] = status.value;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
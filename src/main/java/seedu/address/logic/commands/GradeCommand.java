@@ -139,17 +139,7 @@ public class GradeCommand extends Command {
         updatedGrades.addAll(gradesToAdd);
 
         // Create a new person with the updated grades
-        // Use student constructor if phone/address are null
-        if (personToEdit.getPhone() == null || personToEdit.getAddress() == null) {
-            return new Person(personToEdit.getName(), personToEdit.getStudentId(), personToEdit.getEmail(),
-                    personToEdit.getModuleCodes(), personToEdit.getTags(),
-                    personToEdit.getAttendanceRecord(), updatedGrades, personToEdit.getConsultations(),
-                    personToEdit.getRemark());
-        } else {
-            return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                    personToEdit.getAddress(), personToEdit.getTags(), personToEdit.getStudentId(),
-                    personToEdit.getModuleCodes(), updatedGrades);
-        }
+        return personToEdit.withGrades(updatedGrades);
     }
 
     @Override
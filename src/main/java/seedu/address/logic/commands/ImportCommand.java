@@ -0,0 +1,226 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RosterCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Adds every student listed in a roster CSV file to TeachMate.
+ *
+ * The file is read one row at a time, and rows are validated in parallel batches. Either every student is added, as
+ * a single change, or none is and the errors of all invalid rows are reported together.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students listed in a CSV file to TeachMate. "
+            + "The first row of the file must name the columns "
+            + RosterCsvParser.COLUMN_NAME + ", "
+            + RosterCsvParser.COLUMN_STUDENT_ID + ", "
+            + RosterCsvParser.COLUMN_EMAIL + " and "
+            + RosterCsvParser.COLUMN_MODULES + ", and may also name a "
+            + RosterCsvParser.COLUMN_TAGS + " column.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/CS2103T_roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "✓ Imported %1$s from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Cannot import: The file %1$s does not exist.";
+    public static final String MESSAGE_READ_FAILURE = "Cannot import: The file %1$s could not be read: %2$s";
+    public static final String MESSAGE_NO_HEADER = "Cannot import: The file %1$s is empty.";
+    public static final String MESSAGE_NO_STUDENTS = "Cannot import: The file %1$s does not list any students.";
+    public static final String MESSAGE_INVALID_ROWS = "Cannot import: No students were added because %1$s "
+            + "had errors:\n%2$s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_STUDENT_ID_IN_FILE = "Student ID %1$s is also used in row %2$d";
+    public static final String MESSAGE_DUPLICATE_EMAIL_IN_FILE = "Email %1$s is also used in row %2$d";
+    public static final String MESSAGE_DUPLICATE_STUDENT_ID = "A student with ID %1$s already exists in TeachMate";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "A student with email %1$s already exists in TeachMate";
+
+    // The number of row errors listed in full; the rest are only counted
+    static final int MAX_REPORTED_ERRORS = 20;
+    // The number of rows that are read before they are validated together
+    static final int VALIDATION_BATCH_SIZE = 1024;
+
+    // The header is the first row, so students are listed from the second row
+    private static final int FIRST_STUDENT_ROW = 2;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the students listed in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        RosterImport rosterImport = new RosterImport(model);
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_NO_HEADER, filePath));
+            }
+            RosterCsvParser rowParser = new RosterCsvParser(header);
+
+            List<List<String>> batch = new ArrayList<>(VALIDATION_BATCH_SIZE);
+            int batchFirstRow = FIRST_STUDENT_ROW;
+            for (List<String> row = reader.readRecord(); row != null; row = reader.readRecord()) {
+                batch.add(row);
+                if (batch.size() == VALIDATION_BATCH_SIZE) {
+                    rosterImport.addBatch(rowParser, batch, batchFirstRow);
+                    batchFirstRow += batch.size();
+                    batch.clear();
+                }
+            }
+            rosterImport.addBatch(rowParser, batch, batchFirstRow);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()));
+        } catch (ParseException e) {
+            throw new CommandException(e.getMessage());
+        }
+
+        if (!rosterImport.errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ROWS,
+                    Messages.formatCount(rosterImport.errors.size(), "row"), formatErrors(rosterImport.errors)));
+        }
+        if (rosterImport.persons.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, filePath));
+        }
+
+        model.addPersons(rosterImport.persons);
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                Messages.formatCount(rosterImport.persons.size(), "student"), filePath));
+    }
+
+    private static String formatErrors(List<String> errors) {
+        List<String> reportedErrors = new ArrayList<>(errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            reportedErrors.add(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return Messages.formatBulletList(reportedErrors);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The students and row errors collected so far while importing into a model.
+     * Rows must be added in file order, so that errors are listed in file order and a duplicate is reported on the
+     * later of its rows.
+     */
+    private static class RosterImport {
+        private final Model model;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        // The row of each imported student ID and case-normalised email, to report duplicates within the file
+        private final Map<StudentId, Integer> studentIdRows = new HashMap<>();
+        private final Map<String, Integer> emailRows = new HashMap<>();
+
+        RosterImport(Model model) {
+            this.model = model;
+        }
+
+        /**
+         * Validates {@code rows}, the first of which is row {@code firstRow} of the file, in parallel, and then
+         * checks the resulting students for duplicates in order.
+         */
+        void addBatch(RosterCsvParser rowParser, List<List<String>> rows, int firstRow) {
+            Person[] parsedPersons = new Person[rows.size()];
+            String[] failures = new String[rows.size()];
+            IntStream.range(0, rows.size()).parallel().forEach(i -> {
+                try {
+                    parsedPersons[i] = rowParser.parseRow(rows.get(i));
+                } catch (ParseException e) {
+                    failures[i] = e.getMessage();
+                }
+            });
+
+            for (int i = 0; i < rows.size(); i++) {
+                int row = firstRow + i;
+                if (isBlank(rows.get(i))) {
+                    continue;
+                }
+                String failure = failures[i] != null ? failures[i] : findDuplicate(parsedPersons[i], row);
+                if (failure != null) {
+                    errors.add(String.format(MESSAGE_ROW_ERROR, row, failure));
+                } else {
+                    persons.add(parsedPersons[i]);
+                }
+            }
+        }
+
+        /**
+         * Returns why {@code person} duplicates an existing or earlier imported student, or null if it does not.
+         * Otherwise, records {@code person} as imported from {@code row}.
+         */
+        private String findDuplicate(Person person, int row) {
+            String emailKey = person.getEmail().value.toLowerCase(Locale.ROOT);
+            Integer earlierStudentIdRow = studentIdRows.putIfAbsent(person.getStudentId(), row);
+            if (earlierStudentIdRow != null) {
+                return String.format(MESSAGE_DUPLICATE_STUDENT_ID_IN_FILE, person.getStudentId(), earlierStudentIdRow);
+            }
+            Integer earlierEmailRow = emailRows.putIfAbsent(emailKey, row);
+            if (earlierEmailRow != null) {
+                return String.format(MESSAGE_DUPLICATE_EMAIL_IN_FILE, person.getEmail(), earlierEmailRow);
+            }
+            if (model.getPersonByStudentId(person.getStudentId()).isPresent()) {
+                return String.format(MESSAGE_DUPLICATE_STUDENT_ID, person.getStudentId());
+            }
+            if (model.getPersonByEmail(person.getEmail()).isPresent()) {
+                return String.format(MESSAGE_DUPLICATE_EMAIL, person.getEmail());
+            }
+            return null;
+        }
+
+        private static boolean isBlank(List<String> row) {
+            return row.stream().allMatch(String::isBlank);
+        }
+    }
+}
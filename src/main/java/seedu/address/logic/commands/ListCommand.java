@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.model.Model;
 import seedu.address.model.module.ModuleCode;
@@ -50,13 +50,11 @@ public class ListCommand extends Command {
         }
 
         ModuleCode target = moduleCode.get();
-        // predicate to filter persons by module code
-        Predicate<Person> modulePredicate = person -> person.getModuleCodes().stream()
-                .anyMatch(mc -> mc.equals(moduleCode.get()));
+        // the module index is a live view, so the filter keeps up with later changes to the module's students
+        Set<Person> enrolledPersons = model.getPersonsInModule(target);
+        model.updateFilteredPersonList(enrolledPersons::contains);
 
-        model.updateFilteredPersonList(modulePredicate);
-
-        int count = model.getFilteredPersonList().size();
+        int count = enrolledPersons.size();
         if (count == 0) {
             return new CommandResult(String.format(MESSAGE_NO_STUDENTS_FOUND, target));
         } else {
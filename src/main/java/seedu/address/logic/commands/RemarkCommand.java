@@ -72,17 +72,7 @@ public class RemarkCommand extends Command {
     private static Person createStudentWithRemark(Person studentToEdit, Remark remark) {
         assert studentToEdit != null;
 
-        return new Person(
-                studentToEdit.getName(),
-                studentToEdit.getStudentId(),
-                studentToEdit.getEmail(),
-                studentToEdit.getModuleCodes(),
-                studentToEdit.getTags(),
-                studentToEdit.getAttendanceRecord(),
-                studentToEdit.getGrades(),
-                studentToEdit.getConsultations(),
-                remark
-        );
+        return studentToEdit.withRemark(remark);
     }
 
     @Override
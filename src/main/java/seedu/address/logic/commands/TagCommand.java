@@ -119,20 +119,7 @@ public class TagCommand extends Command {
         Set<Tag> updatedTags = new HashSet<>(personToTag.getTags());
         updatedTags.addAll(tagsToAdd);
 
-        // Check if this is a student (has studentId but no phone/address)
-        if (personToTag.getStudentId() != null && personToTag.getPhone() == null
-                && personToTag.getAddress() == null) {
-            // Use student constructor with all fields preserved
-            return new Person(personToTag.getName(), personToTag.getStudentId(),
-                    personToTag.getEmail(), personToTag.getModuleCodes(), updatedTags,
-                    personToTag.getAttendanceRecord(), personToTag.getGrades(),
-                    personToTag.getConsultations(), personToTag.getRemark());
-        } else {
-            // Use regular person constructor
-            return new Person(personToTag.getName(), personToTag.getPhone(), personToTag.getEmail(),
-                    personToTag.getAddress(), updatedTags, personToTag.getStudentId(),
-                    personToTag.getModuleCodes(), personToTag.getGrades());
-        }
+        return personToTag.withTags(updatedTags);
     }
 
     @Override
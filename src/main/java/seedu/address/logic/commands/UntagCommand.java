@@ -128,20 +128,7 @@ public class UntagCommand extends Command {
         Set<Tag> updatedTags = new HashSet<>(personToUntag.getTags());
         updatedTags.removeAll(tagsToRemove);
 
-        // Check if this is a student (has studentId but no phone/address)
-        if (personToUntag.getStudentId() != null && personToUntag.getPhone() == null
-                && personToUntag.getAddress() == null) {
-            // Use student constructor with all fields preserved
-            return new Person(personToUntag.getName(), personToUntag.getStudentId(),
-                    personToUntag.getEmail(), personToUntag.getModuleCodes(), updatedTags,
-                    personToUntag.getAttendanceRecord(), personToUntag.getGrades(),
-                    personToUntag.getConsultations(), personToUntag.getRemark());
-        } else {
-            // Use regular person constructor
-            return new Person(personToUntag.getName(), personToUntag.getPhone(), personToUntag.getEmail(),
-                    personToUntag.getAddress(), updatedTags, personToUntag.getStudentId(),
-                    personToUntag.getModuleCodes(), personToUntag.getGrades());
-        }
+        return personToUntag.withTags(updatedTags);
     }
 
     @Override
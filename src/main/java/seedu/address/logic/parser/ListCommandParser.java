@@ -36,7 +36,7 @@ public class ListCommandParser implements Parser<ListCommand> {
         if (!ModuleCode.isValidModuleCode(moduleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         } else {
-            return new ListCommand(new ModuleCode(moduleCode));
+            return new ListCommand(ModuleCode.of(moduleCode));
         }
     }
 
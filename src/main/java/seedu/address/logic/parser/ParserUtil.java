@@ -142,7 +142,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -184,7 +184,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -253,7 +253,7 @@ public class ParserUtil {
         String trimmedWeek = week.trim();
         try {
             int weekNumber = Integer.parseInt(trimmedWeek);
-            return new Week(weekNumber);
+            return Week.of(weekNumber);
         } catch (NumberFormatException e) {
             throw new ParseException(Week.MESSAGE_CONSTRAINTS);
         } catch (IllegalArgumentException e) {
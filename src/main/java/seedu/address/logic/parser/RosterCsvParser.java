@@ -0,0 +1,137 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the rows of a roster CSV file into students.
+ *
+ * The first row of the file names the columns. Column names are matched ignoring case, spaces and punctuation, so
+ * "Student ID", "student_id" and "StudentID" are the same column, and columns that are not recognised are ignored.
+ * A row may list several modules or tags in one cell, separated by spaces or semicolons.
+ * Parsing a row does not change the parser, so rows may be parsed concurrently.
+ */
+public class RosterCsvParser {
+
+    public static final String COLUMN_NAME = "Name";
+    public static final String COLUMN_STUDENT_ID = "Student ID";
+    public static final String COLUMN_EMAIL = "Email";
+    public static final String COLUMN_MODULES = "Modules";
+    public static final String COLUMN_TAGS = "Tags";
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The CSV file is missing the column(s): %1$s";
+    public static final String MESSAGE_MISSING_VALUE = "%1$s is missing";
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("[;\\s]+");
+    private static final int ABSENT = -1;
+
+    private final int nameColumn;
+    private final int studentIdColumn;
+    private final int emailColumn;
+    private final int modulesColumn;
+    private final int tagsColumn;
+
+    /**
+     * Creates a {@code RosterCsvParser} for rows with the columns named by {@code header}.
+     *
+     * @throws ParseException if {@code header} lacks a column that every student needs.
+     */
+    public RosterCsvParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        nameColumn = findColumn(header, COLUMN_NAME);
+        studentIdColumn = findColumn(header, COLUMN_STUDENT_ID);
+        emailColumn = findColumn(header, COLUMN_EMAIL);
+        modulesColumn = findColumn(header, COLUMN_MODULES, "Module", "Module Code", "Module Codes");
+        tagsColumn = findColumn(header, COLUMN_TAGS, "Tag");
+
+        List<String> missingColumns = new ArrayList<>();
+        if (nameColumn == ABSENT) {
+            missingColumns.add(COLUMN_NAME);
+        }
+        if (studentIdColumn == ABSENT) {
+            missingColumns.add(COLUMN_STUDENT_ID);
+        }
+        if (emailColumn == ABSENT) {
+            missingColumns.add(COLUMN_EMAIL);
+        }
+        if (modulesColumn == ABSENT) {
+            missingColumns.add(COLUMN_MODULES);
+        }
+        if (!missingColumns.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+    }
+
+    /**
+     * Parses the cells of one row into a student, in the same way as the add command parses its arguments.
+     *
+     * @throws ParseException if a required cell is empty or a cell holds an invalid value.
+     */
+    public Person parseRow(List<String> row) throws ParseException {
+        requireNonNull(row);
+        Name name = ParserUtil.parseName(getRequiredCell(row, nameColumn, COLUMN_NAME));
+        StudentId studentId = ParserUtil.parseStudentId(getRequiredCell(row, studentIdColumn, COLUMN_STUDENT_ID));
+        Email email = ParserUtil.parseEmail(getRequiredCell(row, emailColumn, COLUMN_EMAIL));
+        Set<ModuleCode> moduleCodes = ParserUtil.parseModuleCodes(
+                splitList(getRequiredCell(row, modulesColumn, COLUMN_MODULES)));
+        Set<Tag> tags = ParserUtil.parseTags(splitList(getCell(row, tagsColumn)));
+
+        return new Person(name, studentId, email, moduleCodes, tags, new AttendanceRecord(), new HashSet<>());
+    }
+
+    /**
+     * Returns the position of the first column in {@code header} with one of {@code names}, or {@code ABSENT}.
+     */
+    private static int findColumn(List<String> header, String... names) {
+        Set<String> keys = new HashSet<>();
+        Arrays.stream(names).map(RosterCsvParser::toColumnKey).forEach(keys::add);
+        for (int i = 0; i < header.size(); i++) {
+            if (keys.contains(toColumnKey(header.get(i)))) {
+                return i;
+            }
+        }
+        return ABSENT;
+    }
+
+    private static String toColumnKey(String columnName) {
+        StringBuilder key = new StringBuilder(columnName.length());
+        for (int i = 0; i < columnName.length(); i++) {
+            char c = columnName.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    private static String getCell(List<String> row, int column) {
+        return column != ABSENT && column < row.size() ? row.get(column).trim() : "";
+    }
+
+    private static String getRequiredCell(List<String> row, int column, String columnName) throws ParseException {
+        String cell = getCell(row, column);
+        if (cell.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, columnName));
+        }
+        return cell;
+    }
+
+    private static List<String> splitList(String cell) {
+        return cell.isEmpty() ? List.of() : Arrays.asList(LIST_SEPARATOR.split(cell));
+    }
+}
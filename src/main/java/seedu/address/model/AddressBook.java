@@ -3,12 +3,18 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAllTagsPredicate;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
 
@@ -19,6 +25,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    // Incremented by every change to the persons, see #getVersion()
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -49,6 +57,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -57,6 +66,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // The persons of another AddressBook are already known to be unique
+            persons.setPersons(((AddressBook) newData).persons);
+            version++;
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -76,20 +91,41 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Optional<Person> getPersonByStudentId(StudentId studentId) {
         requireNonNull(studentId);
-        return persons.asUnmodifiableObservableList().stream()
-                .filter(person -> person.getStudentId() != null && person.getStudentId().equals(studentId))
-                .findFirst();
+        return persons.getPersonByStudentId(studentId);
     }
 
     /**
      * Returns the person with the specified email, if present.
+     * Emails are matched case-insensitively.
      * Returns an empty Optional if no person with the given email exists.
      */
     public Optional<Person> getPersonByEmail(Email email) {
         requireNonNull(email);
-        return persons.asUnmodifiableObservableList().stream()
-                .filter(person -> person.getEmail() != null && person.getEmail().equals(email))
-                .findFirst();
+        return persons.getPersonByEmail(email);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the persons enrolled in {@code moduleCode}.
+     */
+    public Set<Person> getPersonsInModule(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return persons.getPersonsInModule(moduleCode);
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} but is answered from the tag index.
+     */
+    public Predicate<Person> getIndexedTagPredicate(PersonHasAllTagsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getIndexedTagPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} but is answered from the name index.
+     */
+    public Predicate<Person> getIndexedNamePredicate(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getIndexedNamePredicate(predicate);
     }
 
     /**
@@ -98,6 +134,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single change.
+     * None of the persons may already exist in the address book or share an identity with each other.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        version++;
     }
 
     /**
@@ -109,6 +155,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
+    }
+
+    /**
+     * Replaces each person that is a key of {@code replacements} with the person it maps to, as a single change.
+     * Every key must exist in the address book.
+     * The resulting address book must not contain persons with the same identity.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        persons.setPersons(replacements);
+        version++;
     }
 
     /**
@@ -117,6 +174,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     //// util methods
@@ -128,6 +186,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -0,0 +1,254 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The undo and redo history of an {@code AddressBook}.
+ *
+ * Persons are immutable, so the history never copies them. Each committed state is kept as the change from the
+ * state before it, which holds only the persons that were replaced, added or removed, and all other persons stay
+ * shared with the address book. The persons held by the history are capped; once the cap is exceeded, the oldest
+ * changes are forgotten first.
+ *
+ * Every change to the address book must be committed before undoing or redoing.
+ */
+public class AddressBookHistory {
+
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "The history capacity cannot be negative";
+
+    private final AddressBook addressBook;
+    private final Deque<Change> undoChanges = new ArrayDeque<>();
+    private final Deque<Change> redoChanges = new ArrayDeque<>();
+    private int capacity;
+    // The number of persons held by the changes in both stacks
+    private int size;
+
+    // The persons of the last committed state, which the newest undo change leads back from
+    private Person[] committedPersons;
+    private long committedVersion;
+
+    /**
+     * Creates a history of {@code addressBook} that starts at its current state and holds changes of at most
+     * {@code capacity} persons.
+     */
+    public AddressBookHistory(AddressBook addressBook, int capacity) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        setCapacity(capacity);
+        markCommitted();
+    }
+
+    /**
+     * Sets the number of persons the history may hold, forgetting the oldest changes if it holds more.
+     */
+    public void setCapacity(int capacity) {
+        checkArgument(capacity >= 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        this.capacity = capacity;
+        evictOldest();
+    }
+
+    /**
+     * Records the current state of the address book as a new state that can be undone.
+     * Does nothing if the address book has not changed since the last committed state.
+     * Any undone states can no longer be redone.
+     */
+    public void commit() {
+        if (addressBook.getVersion() == committedVersion) {
+            return;
+        }
+
+        Person[] currentPersons = addressBook.getPersonList().toArray(new Person[0]);
+        undoChanges.push(Change.between(currentPersons, committedPersons));
+        size += undoChanges.peek().size();
+        redoChanges.forEach(change -> size -= change.size());
+        redoChanges.clear();
+        committedPersons = currentPersons;
+        committedVersion = addressBook.getVersion();
+        evictOldest();
+    }
+
+    public boolean canUndo() {
+        return !undoChanges.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoChanges.isEmpty();
+    }
+
+    /**
+     * Restores the address book to the state before the last committed state.
+     * There must be a state to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no state to undo");
+        }
+        redoChanges.push(apply(undoChanges.pop()));
+    }
+
+    /**
+     * Restores the address book to the last undone state.
+     * There must be a state to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo");
+        }
+        undoChanges.push(apply(redoChanges.pop()));
+    }
+
+    /**
+     * Applies {@code change} to the last committed state, which the address book is also reset to, and returns the
+     * change that reverts it.
+     */
+    private Change apply(Change change) {
+        Person[] restoredPersons = change.applyTo(committedPersons);
+        Change reverse = Change.between(restoredPersons, committedPersons);
+        addressBook.setPersons(Arrays.asList(restoredPersons));
+        committedPersons = restoredPersons;
+        committedVersion = addressBook.getVersion();
+
+        size += reverse.size() - change.size();
+        evictOldest();
+        return reverse;
+    }
+
+    private void markCommitted() {
+        committedPersons = addressBook.getPersonList().toArray(new Person[0]);
+        committedVersion = addressBook.getVersion();
+    }
+
+    private void evictOldest() {
+        while (size > capacity && !undoChanges.isEmpty()) {
+            size -= undoChanges.removeLast().size();
+        }
+    }
+
+    /**
+     * A change that turns one list of persons into another. Persons are compared by identity, so a change holds
+     * only the persons that differ between the two lists.
+     */
+    private abstract static class Change {
+
+        /**
+         * Returns the change that turns {@code from} into {@code to}.
+         * Changes to persons far apart in a list of unchanged length are kept as the changed positions alone, and
+         * all other changes as the range from the first changed position to the last.
+         */
+        static Change between(Person[] from, Person[] to) {
+            int start = 0;
+            int minLength = Math.min(from.length, to.length);
+            while (start < minLength && from[start] == to[start]) {
+                start++;
+            }
+            int suffix = 0;
+            while (suffix < minLength - start && from[from.length - 1 - suffix] == to[to.length - 1 - suffix]) {
+                suffix++;
+            }
+            if (from.length == to.length) {
+                int end = to.length - suffix;
+                int changed = 0;
+                for (int i = start; i < end; i++) {
+                    if (from[i] != to[i]) {
+                        changed++;
+                    }
+                }
+                // Each changed position costs an index besides the person, so it must save at least half the range
+                if (changed * 2 < end - start) {
+                    return SparseChange.between(from, to, start, end, changed);
+                }
+            }
+            return new RangeChange(start, suffix, Arrays.copyOfRange(to, start, to.length - suffix));
+        }
+
+        abstract Person[] applyTo(Person[] persons);
+
+        /**
+         * Returns the number of persons held by this change.
+         */
+        abstract int size();
+    }
+
+    /**
+     * Replaces the persons from {@code start} up to the position that precedes the unchanged end of a list.
+     */
+    private static class RangeChange extends Change {
+        private final int start;
+        // The number of persons that follow the changed range in the list this change applies to
+        private final int unchangedSuffix;
+        private final Person[] replacement;
+
+        private RangeChange(int start, int unchangedSuffix, Person[] replacement) {
+            this.start = start;
+            this.unchangedSuffix = unchangedSuffix;
+            this.replacement = replacement;
+        }
+
+        @Override
+        Person[] applyTo(Person[] persons) {
+            Person[] result = new Person[start + replacement.length + unchangedSuffix];
+            System.arraycopy(persons, 0, result, 0, start);
+            System.arraycopy(replacement, 0, result, start, replacement.length);
+            System.arraycopy(persons, persons.length - unchangedSuffix, result, start + replacement.length,
+                    unchangedSuffix);
+            return result;
+        }
+
+        @Override
+        int size() {
+            return replacement.length;
+        }
+    }
+
+    /**
+     * Replaces the persons at the given positions of a list, which keeps its length.
+     */
+    private static class SparseChange extends Change {
+        private final int[] indexes;
+        private final Person[] replacements;
+
+        private SparseChange(int[] indexes, Person[] replacements) {
+            this.indexes = indexes;
+            this.replacements = replacements;
+        }
+
+        /**
+         * Returns the change that turns {@code from} into {@code to}, which has the same length and holds
+         * {@code changed} persons that differ from {@code from}, all of them from {@code start} up to {@code end}.
+         */
+        static SparseChange between(Person[] from, Person[] to, int start, int end, int changed) {
+            int[] indexes = new int[changed];
+            Person[] replacements = new Person[changed];
+            int next = 0;
+            for (int i = start; i < end; i++) {
+                if (from[i] != to[i]) {
+                    indexes[next] = i;
+                    replacements[next] = to[i];
+                    next++;
+                }
+            }
+            return new SparseChange(indexes, replacements);
+        }
+
+        @Override
+        Person[] applyTo(Person[] persons) {
+            Person[] result = persons.clone();
+            for (int i = 0; i < indexes.length; i++) {
+                result[indexes[i]] = replacements[i];
+            }
+            return result;
+        }
+
+        @Override
+        int size() {
+            return replacements.length;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAllTagsPredicate;
 import seedu.address.model.person.StudentId;
 
 /**
@@ -71,10 +77,29 @@ public interface Model {
 
     /**
      * Returns the person with the specified email, if present.
+     * Emails are matched case-insensitively.
      * Returns an empty Optional if no person with the given email exists.
      */
     Optional<Person> getPersonByEmail(Email email);
 
+    /**
+     * Returns a live, unmodifiable view of the persons enrolled in {@code moduleCode}.
+     * Membership tests on the view compare persons by identity.
+     */
+    Set<Person> getPersonsInModule(ModuleCode moduleCode);
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} but is answered from the tag index,
+     * instead of case-folding every tag of every person.
+     */
+    Predicate<Person> getIndexedTagPredicate(PersonHasAllTagsPredicate predicate);
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} but is answered from the name index,
+     * instead of splitting and comparing every person's name.
+     */
+    Predicate<Person> getIndexedNamePredicate(NameContainsKeywordsPredicate predicate);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -87,6 +112,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons as a single change.
+     * None of {@code persons} may already exist in the address book or share an identity with each other.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,6 +125,38 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person that is a key of {@code replacements} with the person it maps to, as a single change.
+     * Every key must exist in the address book.
+     * The resulting address book must not contain persons with the same identity.
+     */
+    void setPersons(Map<Person, Person> replacements);
+
+    /**
+     * Saves the current state of the address book in the undo history, if it changed since the last saved state.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if the address book has a previous state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the address book has an undone state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its last undone state.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,8 +15,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAllTagsPredicate;
 import seedu.address.model.person.StudentId;
 
 /**
@@ -23,6 +29,7 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
+    private final AddressBookHistory history;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
 
@@ -36,6 +43,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        history = new AddressBookHistory(this.addressBook, this.userPrefs.getUndoHistoryCapacity());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
     }
 
@@ -49,6 +57,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setCapacity(this.userPrefs.getUndoHistoryCapacity());
     }
 
     @Override
@@ -108,6 +117,24 @@ public class ModelManager implements Model {
         return addressBook.getPersonByEmail(email);
     }
 
+    @Override
+    public Set<Person> getPersonsInModule(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return addressBook.getPersonsInModule(moduleCode);
+    }
+
+    @Override
+    public Predicate<Person> getIndexedTagPredicate(PersonHasAllTagsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedTagPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getIndexedNamePredicate(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedNamePredicate(predicate);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -119,6 +146,14 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -126,14 +161,44 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        addressBook.setPersons(replacements);
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo();
+    }
+
     @Override
     public Person findPersonByStudentId(seedu.address.model.person.StudentId studentId) {
         requireNonNull(studentId);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getStudentId() != null
-                        && person.getStudentId().equals(studentId))
-                .findFirst()
-                .orElse(null);
+        return addressBook.getPersonByStudentId(studentId).orElse(null);
     }
 
     //=========== Filtered Person List Accessors =============================================================
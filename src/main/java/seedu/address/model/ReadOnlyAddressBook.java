@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the persons of this address book change.
+     * Two calls that return the same number observed the same persons.
+     */
+    long getVersion();
+
 }
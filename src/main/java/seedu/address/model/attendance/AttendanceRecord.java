@@ -1,27 +1,45 @@
 package seedu.address.model.attendance;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents a student's attendance record across multiple weeks.
  * Guarantees: immutable; week and status are present and not null.
+ *
+ * The record is packed into a single {@code int}, with two bits per week: week {@code n} occupies bits
+ * {@code 2(n - 1)} and {@code 2(n - 1) + 1}, and holds one of the {@code *_CODE} values below.
  */
 public class AttendanceRecord {
 
-    private final Map<Week, AttendanceStatus> attendanceMap;
+    public static final String MESSAGE_INVALID_BITS = "Packed attendance must only hold weeks 1 to " + Week.MAX_WEEK;
+
+    private static final int BITS_PER_WEEK = 2;
+    private static final int WEEK_MASK = 0b11;
+    private static final int NO_RECORD_CODE = 0b00;
+    private static final int PRESENT_CODE = 0b01;
+    private static final int ABSENT_CODE = 0b10;
+    private static final int UNMARK_CODE = 0b11;
+    // The low bit of every week slot
+    private static final int LOW_BITS = 0x1555555;
+    // Every bit of every week slot
+    private static final int WEEK_BITS = LOW_BITS | (LOW_BITS << 1);
+
+    private final int bits;
 
     /**
      * Constructs an empty {@code AttendanceRecord}.
      */
     public AttendanceRecord() {
-        this.attendanceMap = new HashMap<>();
+        this.bits = 0;
     }
 
     /**
@@ -31,7 +49,32 @@ public class AttendanceRecord {
      */
     public AttendanceRecord(Map<Week, AttendanceStatus> attendanceMap) {
         requireNonNull(attendanceMap);
-        this.attendanceMap = new HashMap<>(attendanceMap);
+        int packed = 0;
+        for (Map.Entry<Week, AttendanceStatus> entry : attendanceMap.entrySet()) {
+            packed = withCode(packed, requireNonNull(entry.getKey()), encode(requireNonNull(entry.getValue())));
+        }
+        this.bits = packed;
+    }
+
+    private AttendanceRecord(int bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the attendance record packed into {@code bits}, in the layout returned by {@link #toBits()}.
+     *
+     * @throws IllegalArgumentException if {@code bits} has bits set outside the slots of the weeks.
+     */
+    public static AttendanceRecord fromBits(int bits) {
+        checkArgument((bits & ~WEEK_BITS) == 0, MESSAGE_INVALID_BITS);
+        return new AttendanceRecord(bits);
+    }
+
+    /**
+     * Returns this record packed into a single {@code int}, in the layout described above.
+     */
+    public int toBits() {
+        return bits;
     }
 
     /**
@@ -44,10 +87,7 @@ public class AttendanceRecord {
     public AttendanceRecord markAttendance(Week week, AttendanceStatus status) {
         requireNonNull(week);
         requireNonNull(status);
-
-        Map<Week, AttendanceStatus> newMap = new HashMap<>(attendanceMap);
-        newMap.put(week, status);
-        return new AttendanceRecord(newMap);
+        return new AttendanceRecord(withCode(bits, week, encode(status)));
     }
 
     /**
@@ -58,10 +98,8 @@ public class AttendanceRecord {
      */
     public AttendanceRecord unmarkAttendance(Week week) {
         requireNonNull(week);
-
-        Map<Week, AttendanceStatus> newMap = new HashMap<>(attendanceMap);
-        newMap.remove(week); // Remove the entry to return to unmarked state
-        return new AttendanceRecord(newMap);
+        // Clear the slot to return to unmarked state
+        return new AttendanceRecord(withCode(bits, week, NO_RECORD_CODE));
     }
 
     /**
@@ -72,16 +110,23 @@ public class AttendanceRecord {
      */
     public AttendanceStatus getAttendance(Week week) {
         requireNonNull(week);
-        return attendanceMap.get(week);
+        return decode(codeOf(week.value));
     }
 
     /**
      * Returns an immutable view of all attendance records.
      *
-     * @return An immutable map of week to attendance status.
+     * @return An immutable map of week to attendance status, in week order.
      */
     public Map<Week, AttendanceStatus> getAllAttendances() {
-        return Collections.unmodifiableMap(attendanceMap);
+        Map<Week, AttendanceStatus> attendances = new LinkedHashMap<>();
+        for (int week = 1; week <= Week.MAX_WEEK; week++) {
+            AttendanceStatus status = decode(codeOf(week));
+            if (status != null) {
+                attendances.put(Week.of(week), status);
+            }
+        }
+        return Collections.unmodifiableMap(attendances);
     }
 
     /**
@@ -92,7 +137,7 @@ public class AttendanceRecord {
      */
     public boolean hasAttendance(Week week) {
         requireNonNull(week);
-        return attendanceMap.containsKey(week);
+        return codeOf(week.value) != NO_RECORD_CODE;
     }
 
     /**
@@ -101,7 +146,7 @@ public class AttendanceRecord {
      * @return The number of weeks with attendance records.
      */
     public int size() {
-        return attendanceMap.size();
+        return Integer.bitCount((bits | (bits >>> 1)) & LOW_BITS);
     }
 
     /**
@@ -110,7 +155,86 @@ public class AttendanceRecord {
      * @return True if no attendance is recorded.
      */
     public boolean isEmpty() {
-        return attendanceMap.isEmpty();
+        return bits == 0;
+    }
+
+    /**
+     * Returns the number of weeks marked as present.
+     */
+    public int countPresent() {
+        return Integer.bitCount(presentBits());
+    }
+
+    /**
+     * Returns the number of weeks marked as absent.
+     */
+    public int countAbsent() {
+        return Integer.bitCount(absentBits());
+    }
+
+    /**
+     * Returns the weeks marked as absent, in week order.
+     */
+    public List<Week> getAbsentWeeks() {
+        List<Week> absentWeeks = new ArrayList<>();
+        int remaining = absentBits();
+        while (remaining != 0) {
+            int position = Integer.numberOfTrailingZeros(remaining);
+            absentWeeks.add(Week.of(position / BITS_PER_WEEK + 1));
+            remaining &= remaining - 1;
+        }
+        return absentWeeks;
+    }
+
+    /**
+     * Returns the low bit of every week slot holding {@code PRESENT_CODE}.
+     */
+    private int presentBits() {
+        return bits & ~(bits >>> 1) & LOW_BITS;
+    }
+
+    /**
+     * Returns the low bit of every week slot holding {@code ABSENT_CODE}.
+     */
+    private int absentBits() {
+        return (bits >>> 1) & ~bits & LOW_BITS;
+    }
+
+    private int codeOf(int week) {
+        return (bits >>> shiftOf(week)) & WEEK_MASK;
+    }
+
+    private static int withCode(int bits, Week week, int code) {
+        int shift = shiftOf(week.value);
+        return (bits & ~(WEEK_MASK << shift)) | (code << shift);
+    }
+
+    private static int shiftOf(int week) {
+        return (week - 1) * BITS_PER_WEEK;
+    }
+
+    private static int encode(AttendanceStatus status) {
+        switch (status) {
+        case PRESENT:
+            return PRESENT_CODE;
+        case ABSENT:
+            return ABSENT_CODE;
+        default:
+            return UNMARK_CODE;
+        }
+    }
+
+    private static AttendanceStatus decode(int code) {
+        switch (code) {
+        case PRESENT_CODE:
+            return AttendanceStatus.PRESENT;
+        case ABSENT_CODE:
+            return AttendanceStatus.ABSENT;
+        case UNMARK_CODE:
+            return AttendanceStatus.UNMARK;
+        default:
+            return null;
+        }
     }
 
     @Override
@@ -125,18 +249,18 @@ public class AttendanceRecord {
         }
 
         AttendanceRecord otherRecord = (AttendanceRecord) other;
-        return attendanceMap.equals(otherRecord.attendanceMap);
+        return bits == otherRecord.bits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(attendanceMap);
+        return Integer.hashCode(bits);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("attendanceMap", attendanceMap)
+                .add("attendanceMap", getAllAttendances())
                 .toString();
     }
 }
@@ -12,6 +12,16 @@ public class Week {
     public static final String MESSAGE_CONSTRAINTS =
             "Week should be a number between 1 and 13 (inclusive)";
     public static final String VALIDATION_REGEX = "^(1[0-3]|[1-9])$";
+    public static final int MAX_WEEK = 13;
+    // Canonical instances, indexed by week number
+    private static final Week[] WEEKS = new Week[MAX_WEEK + 1];
+
+    static {
+        for (int week = 1; week <= MAX_WEEK; week++) {
+            WEEKS[week] = new Week(week);
+        }
+    }
+
     public final int value;
 
     /**
@@ -25,11 +35,21 @@ public class Week {
         this.value = week;
     }
 
+    /**
+     * Returns the canonical {@code Week} for the given week number.
+     *
+     * @param week A valid week number.
+     */
+    public static Week of(int week) {
+        checkArgument(isValidWeek(week), MESSAGE_CONSTRAINTS);
+        return WEEKS[week];
+    }
+
     /**
      * Returns true if a given integer is a valid week number.
      */
     public static boolean isValidWeek(int test) {
-        return test >= 1 && test <= 13;
+        return test >= 1 && test <= MAX_WEEK;
     }
 
     @Override
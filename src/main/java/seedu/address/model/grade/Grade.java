@@ -2,6 +2,7 @@ package seedu.address.model.grade;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents a Grade for an assignment in TeachMate.
@@ -35,9 +36,19 @@ public class Grade {
 
     /**
      * Returns true if a given string is a valid grade.
+     * Accepts the same strings as {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidGrade(String test) {
-        return test.matches(VALIDATION_REGEX);
+        switch (test.length()) {
+        case 1:
+            return isAsciiDigit(test.charAt(0));
+        case 2:
+            return isAsciiDigit(test.charAt(0)) && isAsciiDigit(test.charAt(1));
+        case 3:
+            return test.equals("100");
+        default:
+            return false;
+        }
     }
 
     /**
@@ -2,6 +2,10 @@ package seedu.address.model.module;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+import static seedu.address.commons.util.StringUtil.isAsciiUpperCase;
+
+import seedu.address.commons.util.WeakInterner;
 
 /**
  * Represents a Module Code in the address book.
@@ -17,6 +21,10 @@ public class ModuleCode {
      * 3. Optionally end with 0-2 uppercase letters
      */
     public static final String VALIDATION_REGEX = "[A-Z]{2,4}\\d{4}[A-Z]{0,2}";
+    // Canonical instances of the module codes in use
+    private static final WeakInterner<ModuleCode> CANONICAL_MODULE_CODES =
+            new WeakInterner<>(ModuleCode::new, moduleCode -> moduleCode.value);
+
     public final String value;
 
     /**
@@ -29,11 +37,51 @@ public class ModuleCode {
         checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
         value = moduleCode;
     }
+
+    /**
+     * Returns the canonical {@code ModuleCode} for the given module code, so that equal module codes in use share one
+     * instance.
+     *
+     * @param moduleCode A valid module code.
+     */
+    public static ModuleCode of(String moduleCode) {
+        requireNonNull(moduleCode);
+        return CANONICAL_MODULE_CODES.intern(moduleCode);
+    }
+
     /**
      * Returns true if a given string is a valid module code.
+     * Scans the characters directly, accepting exactly the strings that {@link #VALIDATION_REGEX} matches.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int length = test.length();
+        int prefixEnd = 0;
+        while (prefixEnd < length && isAsciiUpperCase(test.charAt(prefixEnd))) {
+            prefixEnd++;
+        }
+        if (prefixEnd < 2 || prefixEnd > 4) {
+            return false;
+        }
+
+        int digitsEnd = prefixEnd + 4;
+        if (digitsEnd > length) {
+            return false;
+        }
+        for (int i = prefixEnd; i < digitsEnd; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+
+        if (length - digitsEnd > 2) {
+            return false;
+        }
+        for (int i = digitsEnd; i < length; i++) {
+            if (!isAsciiUpperCase(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
     @Override
     public String toString() {
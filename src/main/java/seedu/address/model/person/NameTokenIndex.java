@@ -0,0 +1,143 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the case-folded words of each person's name to the persons whose name contains them.
+ * A keyword matches a person exactly when {@code StringUtil#containsWordIgnoreCase} would match it against the
+ * person's full name.
+ * Persons are compared by identity.
+ */
+public class NameTokenIndex {
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+    // Incremented on every change, so that cached query results can tell when they are stale
+    private int modificationCount = 0;
+
+    /**
+     * Adds the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            personsByToken.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<Person> holders = personsByToken.get(token);
+            if (holders != null && holders.remove(person) && holders.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        personsByToken.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     *
+     * @throws IllegalArgumentException if any keyword is empty or is not a single word.
+     */
+    public Set<Person> findPersonsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            Set<Person> holders = personsByToken.get(toKeywordKey(keyword));
+            if (holders != null) {
+                result.addAll(holders);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a predicate that tests persons against {@code keywords} using this index.
+     * The matching persons are computed once and recomputed only after the index changes.
+     *
+     * @throws IllegalArgumentException if any keyword is empty or is not a single word.
+     */
+    public Predicate<Person> matcherFor(Collection<String> keywords) {
+        requireNonNull(keywords);
+        keywords.forEach(NameTokenIndex::toKeywordKey);
+        return new AnyWordMatcher(keywords);
+    }
+
+    /**
+     * Validates {@code keyword} in the same way as {@code StringUtil#containsWordIgnoreCase} and returns its key.
+     */
+    private static String toKeywordKey(String keyword) {
+        requireNonNull(keyword);
+        String preppedWord = keyword.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return foldCase(preppedWord);
+    }
+
+    private static List<String> tokenize(String fullName) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : fullName.split("\\s+")) {
+            tokens.add(foldCase(word));
+        }
+        return tokens;
+    }
+
+    /**
+     * Folds the case of {@code word} so that two words fold to the same string exactly when
+     * {@link String#equalsIgnoreCase(String)} considers them equal.
+     */
+    private static String foldCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * A predicate that caches the persons matching any of its keywords until the index changes.
+     */
+    private class AnyWordMatcher implements Predicate<Person> {
+        private final Collection<String> keywords;
+        private Set<Person> matches;
+        private int matchesModificationCount;
+
+        AnyWordMatcher(Collection<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = findPersonsWithAnyWord(keywords);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(person);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
@@ -27,14 +28,14 @@ public class Person {
     private final Phone phone;
     private final Email email;
     private final StudentId studentId;
-    private final Set<ModuleCode> moduleCodes = new HashSet<>();
+    private final Set<ModuleCode> moduleCodes;
     // Data fields
     private final Address address;
     private final Remark remark;
     private final List<Consultation> consultations;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
     private final AttendanceRecord attendanceRecord;
-    private final Set<Grade> grades = new HashSet<>();
+    private final Set<Grade> grades;
 
     /**
      * Every field must be present and not null.
@@ -46,16 +47,12 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = new HashSet<>(tags);
         this.studentId = studentId;
-        if (moduleCodes != null) {
-            this.moduleCodes.addAll(moduleCodes);
-        }
+        this.moduleCodes = moduleCodes != null ? new HashSet<>(moduleCodes) : new HashSet<>();
         this.attendanceRecord = new AttendanceRecord();
         this.consultations = new ArrayList<>();
-        if (grades != null) {
-            this.grades.addAll(grades);
-        }
+        this.grades = grades != null ? new HashSet<>(grades) : new HashSet<>();
         this.remark = null;
     }
 
@@ -69,19 +66,36 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = new HashSet<>(tags);
         this.studentId = studentId;
-        if (moduleCodes != null) {
-            this.moduleCodes.addAll(moduleCodes);
-        }
+        this.moduleCodes = moduleCodes != null ? new HashSet<>(moduleCodes) : new HashSet<>();
         this.attendanceRecord = attendanceRecord != null ? attendanceRecord : new AttendanceRecord();
         this.consultations = new ArrayList<>();
-        if (grades != null) {
-            this.grades.addAll(grades);
-        }
+        this.grades = new HashSet<>();
         this.remark = null;
     }
 
+    /**
+     * Every field must be present and not null, except the student ID and remark.
+     * Used to restore a person with a phone and address exactly as it was saved.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+                  StudentId studentId, Set<ModuleCode> moduleCodes, AttendanceRecord attendanceRecord,
+                  Set<Grade> grades, List<Consultation> consultations, Remark remark) {
+        requireAllNonNull(name, phone, email, address, tags, moduleCodes, attendanceRecord, grades, consultations);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = new HashSet<>(tags);
+        this.studentId = studentId;
+        this.moduleCodes = new HashSet<>(moduleCodes);
+        this.attendanceRecord = attendanceRecord;
+        this.consultations = new ArrayList<>(consultations);
+        this.grades = new HashSet<>(grades);
+        this.remark = remark;
+    }
+
     /**
      * Alternate constructor for non students
      */
@@ -91,10 +105,12 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = new HashSet<>(tags);
         this.studentId = null;
+        this.moduleCodes = new HashSet<>();
         this.attendanceRecord = new AttendanceRecord();
         this.consultations = new ArrayList<>();
+        this.grades = new HashSet<>();
         this.remark = null;
     }
 
@@ -109,12 +125,10 @@ public class Person {
         this.email = email;
         this.phone = null; // Not used for students
         this.address = null; // Not used for students
-        this.moduleCodes.addAll(moduleCodes);
-        this.tags.addAll(tags);
+        this.moduleCodes = new HashSet<>(moduleCodes);
+        this.tags = new HashSet<>(tags);
         this.attendanceRecord = new AttendanceRecord();
-        if (grades != null) {
-            this.grades.addAll(grades);
-        }
+        this.grades = new HashSet<>(grades);
         this.consultations = new ArrayList<>();
         this.remark = null;
     }
@@ -130,9 +144,10 @@ public class Person {
         this.email = email;
         this.phone = null; // Not used for students
         this.address = null; // Not used for students
-        this.moduleCodes.addAll(moduleCodes);
-        this.tags.addAll(tags);
+        this.moduleCodes = new HashSet<>(moduleCodes);
+        this.tags = new HashSet<>(tags);
         this.attendanceRecord = attendanceRecord != null ? attendanceRecord : new AttendanceRecord();
+        this.grades = new HashSet<>();
         this.consultations = new ArrayList<>();
         this.remark = null;
     }
@@ -149,12 +164,10 @@ public class Person {
         this.email = email;
         this.phone = null;
         this.address = null;
-        this.moduleCodes.addAll(moduleCodes);
-        this.tags.addAll(tags);
+        this.moduleCodes = new HashSet<>(moduleCodes);
+        this.tags = new HashSet<>(tags);
         this.attendanceRecord = attendanceRecord != null ? attendanceRecord : new AttendanceRecord();
-        if (grades != null) {
-            this.grades.addAll(grades);
-        }
+        this.grades = grades != null ? new HashSet<>(grades) : new HashSet<>();
         this.consultations = new ArrayList<>();
         this.remark = null;
     }
@@ -171,14 +184,70 @@ public class Person {
         this.email = email;
         this.phone = null; // Not used for students
         this.address = null; // Not used for students
-        this.moduleCodes.addAll(moduleCodes);
+        this.moduleCodes = new HashSet<>(moduleCodes);
         this.consultations = new ArrayList<>(consultations);
-        this.tags.addAll(tags);
-        this.grades.addAll(grades);
+        this.tags = new HashSet<>(tags);
+        this.grades = new HashSet<>(grades);
         this.attendanceRecord = attendanceRecord != null ? attendanceRecord : new AttendanceRecord();
         this.remark = remark;
     }
 
+    /**
+     * Copies every field of {@code source} except those given, sharing the collections of {@code source}.
+     * The given collections must not be modified afterwards.
+     */
+    private Person(Person source, Set<Tag> tags, AttendanceRecord attendanceRecord, Set<Grade> grades,
+                   Remark remark) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.studentId = source.studentId;
+        this.moduleCodes = source.moduleCodes;
+        this.consultations = source.consultations;
+        this.tags = tags;
+        this.attendanceRecord = attendanceRecord;
+        this.grades = grades;
+        this.remark = remark;
+    }
+
+    /**
+     * Returns a copy of this person with the given attendance record.
+     * All other fields, including the collections, are shared with this person.
+     */
+    public Person withAttendanceRecord(AttendanceRecord attendanceRecord) {
+        requireNonNull(attendanceRecord);
+        return new Person(this, tags, attendanceRecord, grades, remark);
+    }
+
+    /**
+     * Returns a copy of this person with the given grades.
+     * All other fields, including the collections, are shared with this person.
+     * The copy takes ownership of {@code grades}, so callers must pass a new set and not keep it.
+     */
+    public Person withGrades(Set<Grade> grades) {
+        requireNonNull(grades);
+        return new Person(this, tags, attendanceRecord, grades, remark);
+    }
+
+    /**
+     * Returns a copy of this person with the given tags.
+     * All other fields, including the collections, are shared with this person.
+     * The copy takes ownership of {@code tags}, so callers must pass a new set and not keep it.
+     */
+    public Person withTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return new Person(this, tags, attendanceRecord, grades, remark);
+    }
+
+    /**
+     * Returns a copy of this person with the given remark.
+     * All other fields, including the collections, are shared with this person.
+     */
+    public Person withRemark(Remark remark) {
+        return new Person(this, tags, attendanceRecord, grades, remark);
+    }
+
     public Name getName() {
         return name;
     }
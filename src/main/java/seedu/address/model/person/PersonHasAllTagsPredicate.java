@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -27,6 +28,13 @@ public class PersonHasAllTagsPredicate implements Predicate<Person> {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns the lower-cased tag keywords of this predicate.
+     */
+    public Set<String> getTagKeywords() {
+        return Collections.unmodifiableSet(tagKeywords);
+    }
+
     @Override
     public boolean test(Person person) {
         // Check if for each query tag keyword, there exists at least one person tag
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+import static seedu.address.commons.util.StringUtil.isAsciiUpperCase;
 
 /**
  * Represents a Student's ID in the address book.
@@ -18,6 +20,7 @@ public class StudentId {
      * 3. End with exactly 1 uppercase letter
      */
     public static final String VALIDATION_REGEX = "A\\d{7}[A-Z]";
+    private static final int LENGTH = 9;
 
     public final String value;
 
@@ -34,9 +37,18 @@ public class StudentId {
 
     /**
      * Returns true if a given string is a valid student ID.
+     * The format is fixed, so it is checked character by character rather than through {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || test.charAt(0) != 'A' || !isAsciiUpperCase(test.charAt(LENGTH - 1))) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH - 1; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
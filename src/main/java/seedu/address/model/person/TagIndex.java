@@ -0,0 +1,187 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from case-folded tag names to the persons holding them, supporting case-insensitive substring lookup.
+ * Substring lookup goes through a trigram index over the distinct tag vocabulary, so a keyword is only compared
+ * against tag names that share all of its trigrams.
+ * Persons are compared by identity.
+ */
+public class TagIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByTag = new HashMap<>();
+    private final Map<String, Set<String>> tagsByGram = new HashMap<>();
+    // Incremented on every change, so that cached query results can tell when they are stale
+    private int modificationCount = 0;
+
+    /**
+     * Adds the tags of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            String key = toKey(tag);
+            Set<Person> holders = personsByTag.get(key);
+            if (holders == null) {
+                holders = Collections.newSetFromMap(new IdentityHashMap<>());
+                personsByTag.put(key, holders);
+                grams(key).forEach(gram -> tagsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(key));
+            }
+            holders.add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the tags of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            String key = toKey(tag);
+            Set<Person> holders = personsByTag.get(key);
+            if (holders == null || !holders.remove(person) || !holders.isEmpty()) {
+                continue;
+            }
+            personsByTag.remove(key);
+            for (String gram : grams(key)) {
+                Set<String> tags = tagsByGram.get(gram);
+                tags.remove(key);
+                if (tags.isEmpty()) {
+                    tagsByGram.remove(gram);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        personsByTag.clear();
+        tagsByGram.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the case-folded names of the indexed tags that contain {@code keyword}.
+     * {@code keyword} must already be in lower case.
+     */
+    public Set<String> findTagsContaining(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.length() < GRAM_LENGTH) {
+            return filterContaining(personsByTag.keySet(), keyword);
+        }
+
+        Set<String> candidates = null;
+        for (String gram : grams(keyword)) {
+            Set<String> tags = tagsByGram.get(gram);
+            if (tags == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || tags.size() < candidates.size()) {
+                candidates = tags;
+            }
+        }
+        // Sharing the rarest trigram is necessary but not sufficient, so confirm each candidate
+        return filterContaining(candidates, keyword);
+    }
+
+    /**
+     * Returns the persons who, for every keyword in {@code keywords}, hold a tag containing that keyword.
+     * {@code keywords} must already be in lower case and must not be empty.
+     */
+    public Set<Person> findPersonsWithAllTagsContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        assert !keywords.isEmpty();
+
+        Set<Person> result = null;
+        for (String keyword : keywords) {
+            Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String tag : findTagsContaining(keyword)) {
+                candidates.addAll(personsByTag.get(tag));
+            }
+            if (result == null) {
+                result = candidates;
+            } else {
+                result.retainAll(candidates);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a predicate that tests persons against the keywords in {@code keywords} using this index.
+     * The matching persons are computed once and recomputed only after the index changes.
+     * {@code keywords} must already be in lower case.
+     */
+    public Predicate<Person> matcherFor(Collection<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            return person -> true;
+        }
+        return new AllTagsMatcher(keywords);
+    }
+
+    private static String toKey(Tag tag) {
+        return tag.tagName.toLowerCase();
+    }
+
+    private static Set<String> grams(String key) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static Set<String> filterContaining(Set<String> tags, String keyword) {
+        Set<String> matches = new HashSet<>();
+        for (String tag : tags) {
+            if (tag.contains(keyword)) {
+                matches.add(tag);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A predicate that caches the persons matching all of its keywords until the index changes.
+     */
+    private class AllTagsMatcher implements Predicate<Person> {
+        private final Collection<String> keywords;
+        private Set<Person> matches;
+        private int matchesModificationCount;
+
+        AllTagsMatcher(Collection<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = findPersonsWithAllTagsContaining(keywords);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(person);
+        }
+    }
+}
@@ -3,11 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +32,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Student IDs, emails, names, name words, module codes and tags are additionally indexed so that lookups and
+ * duplicate checks do not need to scan the whole list. Every mutating operation updates the indexes before
+ * {@code internalList}, so listeners of the list always observe indexes that are consistent with it.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,6 +44,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<StudentId, Person> studentIdIndex = new HashMap<>();
+    // Keyed by the case-normalised email address, see #toEmailKey(Email). Older data may hold emails that differ only
+    // in case, so each key lists every person holding it, in the order they were indexed.
+    private final Map<String, List<Person>> emailIndex = new HashMap<>();
+    // Number of persons holding each name, used for the name-based identity check of non-students
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    // Persons enrolled in each module, compared by identity. Only modules with enrolled persons have an entry.
+    private final Map<ModuleCode, Set<Person>> moduleIndex = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      * For students (with student IDs), uniqueness is checked by student ID.
@@ -37,15 +64,57 @@ public class UniquePersonList implements Iterable<Person> {
         requireNonNull(toCheck);
         if (toCheck.getStudentId() != null) {
             // For students, check by student ID
-            return internalList.stream()
-                    .anyMatch(person -> person.getStudentId() != null
-                            && person.getStudentId().equals(toCheck.getStudentId()));
+            return studentIdIndex.containsKey(toCheck.getStudentId());
         } else {
             // For non-students, check by name
-            return internalList.stream().anyMatch(toCheck::isSamePerson);
+            return nameCounts.containsKey(toCheck.getName());
         }
     }
 
+    /**
+     * Returns the person with the given {@code studentId}, if present.
+     */
+    public Optional<Person> getPersonByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return Optional.ofNullable(studentIdIndex.get(studentId));
+    }
+
+    /**
+     * Returns the person with the given {@code email}, if present.
+     * Emails are matched case-insensitively. If several persons match, the one indexed first is returned.
+     */
+    public Optional<Person> getPersonByEmail(Email email) {
+        requireNonNull(email);
+        List<Person> holders = emailIndex.get(toEmailKey(email));
+        return holders == null ? Optional.empty() : Optional.of(holders.get(0));
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the persons enrolled in {@code moduleCode}.
+     * The view reflects later changes to this list, and its {@code contains} compares persons by identity.
+     * The view looks up the module on every access, so it does not keep an entry for the module in this list.
+     */
+    public Set<Person> getPersonsInModule(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return new ModuleView(moduleCode);
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} but is answered from the tag index of this list.
+     */
+    public Predicate<Person> getIndexedTagPredicate(PersonHasAllTagsPredicate predicate) {
+        requireNonNull(predicate);
+        return tagIndex.matcherFor(predicate.getTagKeywords());
+    }
+
+    /**
+     * Returns a predicate that is equivalent to {@code predicate} but is answered from the name index of this list.
+     */
+    public Predicate<Person> getIndexedNamePredicate(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return nameTokenIndex.matcherFor(predicate.getKeywords());
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -55,9 +124,26 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexPerson(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, in order.
+     * None of the persons may already exist in the list or appear in {@code toAdd} more than once.
+     * Uniqueness is validated in one pass over {@code toAdd}, and the persons are published to listeners as a single
+     * change.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        toAdd.forEach(this::indexPerson);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -79,9 +165,7 @@ public class UniquePersonList implements Iterable<Person> {
             // For students, check by student ID
             boolean isDifferentPerson = target.getStudentId() == null
                     || !target.getStudentId().equals(editedPerson.getStudentId());
-            if (isDifferentPerson && internalList.stream()
-                    .anyMatch(person -> person.getStudentId() != null
-                            && person.getStudentId().equals(editedPerson.getStudentId()))) {
+            if (isDifferentPerson && studentIdIndex.containsKey(editedPerson.getStudentId())) {
                 throw new DuplicatePersonException();
             }
         } else {
@@ -91,28 +175,84 @@ public class UniquePersonList implements Iterable<Person> {
             }
         }
 
+        unindexPerson(internalList.get(index));
+        indexPerson(editedPerson);
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in the list that is a key of {@code replacements} with the person it maps to.
+     * Every key must exist in the list, and the resulting list must not contain duplicate persons.
+     * All replacements are applied in one pass and published to listeners as a single change.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        requireAllNonNull(replacements.values());
+
+        List<Person> replacedPersons = new ArrayList<>(replacements.size());
+        List<Person> updatedPersons = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            Person replacement = replacements.get(person);
+            if (replacement != null) {
+                replacedPersons.add(person);
+            }
+            updatedPersons.add(replacement != null ? replacement : person);
+        }
+        if (replacedPersons.size() != replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+        if (!personsAreUnique(updatedPersons)) {
+            throw new DuplicatePersonException();
+        }
+
+        replacedPersons.forEach(this::unindexPerson);
+        replacedPersons.forEach(person -> indexPerson(replacements.get(person)));
+        internalList.setAll(updatedPersons);
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindexPerson(internalList.get(index));
+        internalList.remove(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} is already known to be unique, its indexes are copied without revalidation.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        studentIdIndex.clear();
+        studentIdIndex.putAll(replacement.studentIdIndex);
+        emailIndex.clear();
+        replacement.emailIndex.forEach((emailKey, holders) -> emailIndex.put(emailKey, new ArrayList<>(holders)));
+        nameCounts.clear();
+        nameCounts.putAll(replacement.nameCounts);
+        moduleIndex.clear();
+        replacement.moduleIndex.forEach((moduleCode, persons) -> {
+            Set<Person> enrolled = newIdentitySet();
+            enrolled.addAll(persons);
+            moduleIndex.put(moduleCode, enrolled);
+        });
+        tagIndex.clear();
+        replacement.internalList.forEach(tagIndex::add);
+        nameTokenIndex.clear();
+        replacement.internalList.forEach(nameTokenIndex::add);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated in one pass and the new contents are published to listeners as a single change.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
@@ -120,6 +260,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -160,30 +301,117 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Adds {@code person} to the lookup indexes.
+     */
+    private void indexPerson(Person person) {
+        if (person.getStudentId() != null) {
+            studentIdIndex.put(person.getStudentId(), person);
+        }
+        if (person.getEmail() != null) {
+            emailIndex.computeIfAbsent(toEmailKey(person.getEmail()), unused -> new ArrayList<>(1)).add(person);
+        }
+        nameCounts.merge(person.getName(), 1, Integer::sum);
+        for (ModuleCode moduleCode : person.getModuleCodes()) {
+            moduleIndex.computeIfAbsent(moduleCode, unused -> newIdentitySet()).add(person);
+        }
+        tagIndex.add(person);
+        nameTokenIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the lookup indexes.
+     */
+    private void unindexPerson(Person person) {
+        if (person.getStudentId() != null) {
+            studentIdIndex.remove(person.getStudentId(), person);
+        }
+        if (person.getEmail() != null) {
+            String emailKey = toEmailKey(person.getEmail());
+            List<Person> holders = emailIndex.get(emailKey);
+            if (holders != null && holders.removeIf(holder -> holder == person) && holders.isEmpty()) {
+                emailIndex.remove(emailKey);
+            }
+        }
+        nameCounts.computeIfPresent(person.getName(), (name, count) -> count == 1 ? null : count - 1);
+        for (ModuleCode moduleCode : person.getModuleCodes()) {
+            Set<Person> enrolled = moduleIndex.get(moduleCode);
+            if (enrolled != null && enrolled.remove(person) && enrolled.isEmpty()) {
+                moduleIndex.remove(moduleCode);
+            }
+        }
+        tagIndex.remove(person);
+        nameTokenIndex.remove(person);
+    }
+
+    /**
+     * Rebuilds the lookup indexes so that they describe {@code persons}.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        studentIdIndex.clear();
+        emailIndex.clear();
+        nameCounts.clear();
+        moduleIndex.clear();
+        tagIndex.clear();
+        nameTokenIndex.clear();
+        persons.forEach(this::indexPerson);
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static String toEmailKey(Email email) {
+        return email.value.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      * For students, uniqueness is checked by student ID.
      * For non-students, uniqueness is checked by name.
+     * Runs in a single pass over {@code persons}.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                Person personI = persons.get(i);
-                Person personJ = persons.get(j);
-
-                // Check by student ID for students
-                if (personI.getStudentId() != null && personJ.getStudentId() != null) {
-                    if (personI.getStudentId().equals(personJ.getStudentId())) {
-                        return false;
-                    }
-                } else if (personI.getStudentId() == null && personJ.getStudentId() == null) {
-                    // Check by name for non-students
-                    if (personI.isSamePerson(personJ)) {
-                        return false;
-                    }
-                }
+        Set<StudentId> seenStudentIds = new HashSet<>();
+        Set<Name> seenNonStudentNames = new HashSet<>();
+        for (Person person : persons) {
+            boolean isFirstOccurrence = person.getStudentId() != null
+                    ? seenStudentIds.add(person.getStudentId())
+                    : seenNonStudentNames.add(person.getName());
+            if (!isFirstOccurrence) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * An unmodifiable view of the persons enrolled in a module, which reads the module index on every access.
+     */
+    private class ModuleView extends AbstractSet<Person> {
+        private final ModuleCode moduleCode;
+
+        ModuleView(ModuleCode moduleCode) {
+            this.moduleCode = moduleCode;
+        }
+
+        private Set<Person> getEnrolled() {
+            return moduleIndex.getOrDefault(moduleCode, Collections.emptySet());
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return getEnrolled().contains(o);
+        }
+
+        @Override
+        public int size() {
+            return getEnrolled().size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return Collections.unmodifiableSet(getEnrolled()).iterator();
+        }
+    }
 }
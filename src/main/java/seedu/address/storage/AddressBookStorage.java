@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes the given {@link ReadOnlyAddressBook} to the data file as json, which can be read and edited by hand.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
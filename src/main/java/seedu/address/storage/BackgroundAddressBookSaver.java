@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a dedicated background thread.
+ *
+ * Each request takes an immutable snapshot of the address book, so the caller may keep changing it. Requests made
+ * while a write is pending replace its snapshot instead of queueing another write, so a burst of requests results
+ * in one write of the latest snapshot. Requests for the version of the address book that was last written
+ * successfully are ignored while no other write is pending, so a saver is meant to save a single address book.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private static final long NO_VERSION = -1;
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<IOException> failureHandler = e -> { };
+    // The latest snapshot that has not been handed to the writer yet, guarded by this
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriteScheduled;
+    private boolean isWriting;
+    // The version of the last snapshot that was written successfully, or NO_VERSION if the last write failed
+    private long savedVersion = NO_VERSION;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is told about failed writes.
+     * The handler is called on the background thread.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook}, as it is now, to be written.
+     * Does nothing if the same version of {@code addressBook} is already waiting to be written, or if it is the
+     * version that was last written successfully and no other write is pending.
+     * Returns without waiting for the write.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long version = addressBook.getVersion();
+        boolean isAlreadySaved = pendingSnapshot != null
+                ? pendingSnapshot.getVersion() == version
+                : !isWriting && savedVersion == version;
+        if (isAlreadySaved) {
+            return;
+        }
+
+        pendingSnapshot = new Snapshot(addressBook);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot requested so far has been written, or its write has failed.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the remaining snapshot and stops the background thread.
+     * No saves may be requested afterwards.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        Consumer<IOException> handler;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            handler = failureHandler;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+            isWriting = true;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+            synchronized (this) {
+                savedVersion = snapshot.getVersion();
+                isWriting = false;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                // Let the next request retry, even if the address book has not changed
+                savedVersion = NO_VERSION;
+                isWriting = false;
+            }
+            handler.accept(e);
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the persons of an address book at one point in time.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(new ArrayList<>(source.getPersonList())));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
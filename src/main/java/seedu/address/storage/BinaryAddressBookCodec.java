@@ -0,0 +1,306 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.grade.Grade;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact, versioned binary format.
+ *
+ * A file starts with {@link #MAGIC} and a format version, followed by dictionaries of the distinct module codes,
+ * tags and assignment names, and then one length-prefixed record per person. Records refer to dictionary entries by
+ * index, so each distinct value is stored and validated only once, and attendance is stored in the packed form of
+ * {@link AttendanceRecord#toBits()}.
+ */
+class BinaryAddressBookCodec {
+
+    /** The bytes every binary address book starts with. The first byte never starts a JSON document. */
+    static final byte[] MAGIC = {(byte) 0x89, 'T', 'A', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    private static final int HAS_PHONE = 1;
+    private static final int HAS_ADDRESS = 1 << 1;
+    private static final int HAS_STUDENT_ID = 1 << 2;
+    private static final int HAS_REMARK = 1 << 3;
+
+    /**
+     * Returns true if {@code in} continues with a binary address book.
+     * {@code in} must support {@link InputStream#mark(int)}, and is reset to where it was.
+     */
+    static boolean isBinary(InputStream in) throws IOException {
+        in.mark(MAGIC.length);
+        byte[] header = in.readNBytes(MAGIC.length);
+        in.reset();
+        return Arrays.equals(header, MAGIC);
+    }
+
+    /**
+     * Reads an address book from {@code in}, which is left open.
+     *
+     * @throws IOException if {@code in} could not be read or does not contain a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] header = data.readNBytes(MAGIC.length);
+        if (!Arrays.equals(header, MAGIC)) {
+            throw new IOException("Not a binary address book");
+        }
+        int version = data.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+
+        try {
+            List<ModuleCode> moduleCodes = readDictionary(data, ModuleCode::of);
+            List<Tag> tags = readDictionary(data, Tag::of);
+            List<String> assignmentNames = readDictionary(data, Function.identity());
+
+            int personCount = readVarInt(data);
+            List<Person> persons = new ArrayList<>(Math.min(personCount, 1 << 16));
+            for (int i = 0; i < personCount; i++) {
+                byte[] record = new byte[readVarInt(data)];
+                data.readFully(record);
+                persons.add(readPerson(new DataInputStream(new ByteArrayInputStream(record)),
+                        moduleCodes, tags, assignmentNames));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (IllegalArgumentException e) {
+            // Thrown by the constructors of the model's values, with the constraint that was violated
+            throw new IllegalValueException(e.getMessage());
+        } catch (DateTimeException e) {
+            // Thrown for consultation times that are out of range, which only a damaged file contains
+            throw new IOException("Invalid consultation time in binary address book: " + e.getMessage(), e);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is flushed but left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> moduleCodes = new LinkedHashMap<>();
+        Map<String, Integer> tags = new LinkedHashMap<>();
+        Map<String, Integer> assignmentNames = new LinkedHashMap<>();
+        for (Person person : persons) {
+            person.getModuleCodes().forEach(moduleCode -> addToDictionary(moduleCodes, moduleCode.value));
+            person.getTags().forEach(tag -> addToDictionary(tags, tag.tagName));
+            person.getGrades().forEach(grade -> addToDictionary(assignmentNames, grade.assignmentName));
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        writeDictionary(data, moduleCodes);
+        writeDictionary(data, tags);
+        writeDictionary(data, assignmentNames);
+
+        writeVarInt(data, persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(record, person, moduleCodes, tags, assignmentNames);
+            writeVarInt(data, recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        data.flush();
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> moduleCodes,
+            Map<String, Integer> tags, Map<String, Integer> assignmentNames) throws IOException {
+        int flags = (person.getPhone() != null ? HAS_PHONE : 0)
+                | (person.getAddress() != null ? HAS_ADDRESS : 0)
+                | (person.getStudentId() != null ? HAS_STUDENT_ID : 0)
+                | (person.getRemark() != null ? HAS_REMARK : 0);
+        out.writeByte(flags);
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getEmail().value);
+        if (person.getPhone() != null) {
+            writeString(out, person.getPhone().value);
+        }
+        if (person.getAddress() != null) {
+            writeString(out, person.getAddress().value);
+        }
+        if (person.getStudentId() != null) {
+            writeString(out, person.getStudentId().value);
+        }
+
+        writeVarInt(out, person.getModuleCodes().size());
+        for (ModuleCode moduleCode : person.getModuleCodes()) {
+            writeVarInt(out, moduleCodes.get(moduleCode.value));
+        }
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, tags.get(tag.tagName));
+        }
+        out.writeInt(person.getAttendanceRecord().toBits());
+        writeVarInt(out, person.getGrades().size());
+        for (Grade grade : person.getGrades()) {
+            writeVarInt(out, assignmentNames.get(grade.assignmentName));
+            writeString(out, grade.score);
+        }
+        writeVarInt(out, person.getConsultations().size());
+        for (Consultation consultation : person.getConsultations()) {
+            LocalDateTime dateTime = consultation.getDateTime();
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        }
+
+        if (person.getRemark() != null) {
+            writeString(out, person.getRemark().value);
+        }
+    }
+
+    private static Person readPerson(DataInput in, List<ModuleCode> moduleCodes, List<Tag> tags,
+            List<String> assignmentNames) throws IOException, IllegalValueException {
+        int flags = in.readUnsignedByte();
+        Name name = new Name(readString(in));
+        Email email = new Email(readString(in));
+        Phone phone = (flags & HAS_PHONE) != 0 ? new Phone(readString(in)) : null;
+        Address address = (flags & HAS_ADDRESS) != 0 ? new Address(readString(in)) : null;
+        StudentId studentId = (flags & HAS_STUDENT_ID) != 0 ? new StudentId(readString(in)) : null;
+
+        Set<ModuleCode> personModuleCodes = new HashSet<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            personModuleCodes.add(lookUp(moduleCodes, readVarInt(in)));
+        }
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            personTags.add(lookUp(tags, readVarInt(in)));
+        }
+        AttendanceRecord attendanceRecord = AttendanceRecord.fromBits(in.readInt());
+        Set<Grade> grades = new HashSet<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            grades.add(new Grade(lookUp(assignmentNames, readVarInt(in)), readString(in)));
+        }
+        List<Consultation> consultations = new ArrayList<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            consultations.add(new Consultation(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(),
+                    ZoneOffset.UTC)));
+        }
+        Remark remark = (flags & HAS_REMARK) != 0 ? new Remark(readString(in)) : null;
+
+        // Persons are told apart as in JsonAdaptedPerson#toModelType, so both formats accept the same persons
+        if (phone == null && address == null && studentId != null && !personModuleCodes.isEmpty()) {
+            return new Person(name, studentId, email, personModuleCodes, personTags, attendanceRecord, grades,
+                    consultations, remark);
+        }
+        if (phone == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    Phone.class.getSimpleName()));
+        }
+        if (address == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    Address.class.getSimpleName()));
+        }
+        return new Person(name, phone, email, address, personTags, studentId, personModuleCodes, attendanceRecord,
+                grades, consultations, remark);
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, String value) {
+        dictionary.putIfAbsent(value, dictionary.size());
+    }
+
+    private static void writeDictionary(DataOutput out, Map<String, Integer> dictionary) throws IOException {
+        writeVarInt(out, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(out, value);
+        }
+    }
+
+    private static <T> List<T> readDictionary(DataInput in, Function<String, T> factory) throws IOException {
+        int size = readVarInt(in);
+        List<T> dictionary = new ArrayList<>(Math.min(size, 1 << 16));
+        for (int i = 0; i < size; i++) {
+            dictionary.add(factory.apply(readString(in)));
+        }
+        return dictionary;
+    }
+
+    private static <T> T lookUp(List<T> dictionary, int index) throws IOException {
+        if (index >= dictionary.size()) {
+            throw new IOException("Dictionary index " + index + " is out of range");
+        }
+        return dictionary.get(index);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in seven-bit groups, least significant first, so small values take one byte.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in binary address book");
+    }
+}
@@ -0,0 +1,414 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, together with an append-only
+ * journal of the changes made since the snapshot was written.
+ *
+ * Saving compares the address book with the persons that were last persisted, and appends one compact record per
+ * changed position to the journal, so the cost of writing grows with the size of the change. The journal is
+ * compacted into a fresh snapshot once it grows long, or when a change touches most of the address book.
+ *
+ * The snapshot is kept in its own file next to the data file, which stays a json file that this storage only writes
+ * when asked to export. A data file that is newer than the snapshot and its journal, such as one edited by hand or
+ * left by an older version, is read instead of them, and replaces them on the next save. Locations other than the
+ * one this storage was created for are written in json format, so json remains the format for exchanging address
+ * books.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String JOURNAL_BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final int COMPACTION_THRESHOLD = 1000;
+    private static final int JOURNAL_NOT_REUSABLE = -1;
+
+    private final Path filePath;
+    // The number of change records the journal may hold before the next save compacts it
+    private final int compactionThreshold;
+
+    // The persons as persisted in the snapshot of filePath, or null if unknown, in which case the next save compacts
+    private List<Person> persistedPersons;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, COMPACTION_THRESHOLD);
+    }
+
+    JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the binary snapshot of the data file at {@code filePath}, which replaces the extension
+     * of the data file with {@link #SNAPSHOT_FILE_EXTENSION}.
+     */
+    public static Path getSnapshotFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        if ((baseName + SNAPSHOT_FILE_EXTENSION).equals(fileName)) {
+            // The data file must not be its own snapshot
+            baseName = fileName;
+        }
+        return filePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns where the journal at {@code journalPath} is kept once it no longer matches its snapshot.
+     */
+    public static Path getJournalBackupFilePath(Path journalPath) {
+        return journalPath.resolveSibling(journalPath.getFileName() + JOURNAL_BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns every file that may be read or written for the data file at {@code filePath}: the data file, its
+     * snapshot, their journals and the backups of those journals.
+     */
+    public static List<Path> getStorageFilePaths(Path filePath) {
+        List<Path> paths = new ArrayList<>();
+        for (Path path : List.of(filePath, getSnapshotFilePath(filePath))) {
+            paths.add(path);
+            paths.add(getJournalFilePath(path));
+            paths.add(getJournalBackupFilePath(getJournalFilePath(path)));
+        }
+        return paths;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The snapshot of {@code filePath} is read with its journal replayed on top of it, unless the data file at
+     * {@code filePath} is newer. The journal is not replayed if it belongs to a different snapshot, such as after
+     * the snapshot was replaced. Such a journal is kept as a backup, as its changes cannot be replayed.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path snapshotPath = getSnapshotFilePath(filePath);
+        Path sourcePath;
+        try {
+            sourcePath = Files.exists(snapshotPath) && !isNewerThanSnapshot(filePath, snapshotPath)
+                    ? snapshotPath
+                    : filePath;
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (!Files.exists(sourcePath)) {
+            return Optional.empty();
+        }
+        if (sourcePath.equals(filePath) && Files.exists(snapshotPath)) {
+            logger.warning("Reading " + filePath + " instead of " + snapshotPath + " as it was changed after the "
+                    + "last save. It replaces " + snapshotPath + " on the next save.");
+        }
+
+        try {
+            CRC32 snapshotChecksum = new CRC32();
+            AddressBook addressBook;
+            boolean isBinary;
+            try (InputStream in = new BufferedInputStream(
+                    new CheckedInputStream(Files.newInputStream(sourcePath), snapshotChecksum))) {
+                isBinary = BinaryAddressBookCodec.isBinary(in);
+                addressBook = isBinary ? BinaryAddressBookCodec.read(in) : JsonAddressBookCodec.read(in);
+                // The checksum covers the whole file, including anything after the address book
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+            int replayedRecordCount = replayJournal(getJournalFilePath(sourcePath), snapshotChecksum.getValue(),
+                    persons);
+            addressBook.setPersons(persons);
+
+            if (filePath.equals(this.filePath)) {
+                // Forgetting the persisted persons of the data file makes the next save write a fresh snapshot
+                boolean isJournalReusable = sourcePath.equals(snapshotPath) && isBinary
+                        && replayedRecordCount != JOURNAL_NOT_REUSABLE;
+                persistedPersons = isJournalReusable ? new ArrayList<>(addressBook.getPersonList()) : null;
+                journalRecordCount = isJournalReusable ? replayedRecordCount : 0;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + sourcePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            logger.info("Illegal values found in " + sourcePath + ": " + e.getMessage());
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + sourcePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} was modified after the snapshot at {@code snapshotPath} and
+     * its journal were last written.
+     */
+    private static boolean isNewerThanSnapshot(Path filePath, Path snapshotPath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        FileTime lastSaved = Files.getLastModifiedTime(snapshotPath);
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (Files.exists(journalPath) && Files.getLastModifiedTime(journalPath).compareTo(lastSaved) > 0) {
+            lastSaved = Files.getLastModifiedTime(journalPath);
+        }
+        return Files.getLastModifiedTime(filePath).compareTo(lastSaved) > 0;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the file this storage was created for is journaled; other locations receive a full json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeJson(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        List<JsonAdaptedJournalRecord> records = persistedPersons == null ? null : diff(persistedPersons, persons);
+        if (records == null
+                || records.size() > persons.size() / 2
+                || journalRecordCount + records.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // Until the append succeeds, the journal may end in a partial record that must not be appended to
+        persistedPersons = null;
+        appendToJournal(records);
+        persistedPersons = new ArrayList<>(persons);
+        journalRecordCount += records.size();
+    }
+
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        writeJson(addressBook, filePath);
+    }
+
+    private static void writeJson(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonAddressBookCodec.write(addressBook, out);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook} and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        persistedPersons = null;
+        long checksum = writeSnapshot(addressBook);
+
+        // A crash before the journal is replaced leaves a journal whose base no longer matches, so it is ignored
+        Files.write(getJournalFilePath(getSnapshotFilePath(filePath)),
+                toLines(List.of(JsonAdaptedJournalRecord.base(checksum))));
+        persistedPersons = new ArrayList<>(addressBook.getPersonList());
+        journalRecordCount = 0;
+    }
+
+    /**
+     * Writes {@code addressBook} as a binary snapshot and returns the checksum of the written bytes.
+     */
+    private long writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        CRC32 checksum = new CRC32();
+        Path snapshotPath = getSnapshotFilePath(filePath);
+        FileUtil.createIfMissing(snapshotPath);
+        try (OutputStream out = new BufferedOutputStream(
+                new CheckedOutputStream(Files.newOutputStream(snapshotPath), checksum))) {
+            BinaryAddressBookCodec.write(addressBook, out);
+        }
+        return checksum.getValue();
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        Files.write(getJournalFilePath(getSnapshotFilePath(filePath)), toLines(records),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code persons}.
+     * Returns the number of records applied if later changes may be appended to the journal, or
+     * {@code JOURNAL_NOT_REUSABLE} if the next save must compact.
+     */
+    private static int replayJournal(Path journalPath, long snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return JOURNAL_NOT_REUSABLE;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, UTF_8);
+        if (lines.isEmpty() || readBaseChecksum(lines.get(0)) != snapshotChecksum) {
+            Path backupPath = getJournalBackupFilePath(journalPath);
+            logger.warning("Journal " + journalPath + " does not belong to the current snapshot, so its changes are "
+                    + "not loaded. It is kept as " + backupPath + ".");
+            Files.move(journalPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            return JOURNAL_NOT_REUSABLE;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = readRecord(lines.get(i));
+            } catch (IOException e) {
+                if (i != lines.size() - 1) {
+                    throw e;
+                }
+                // Only the last record can be partially written, by a save that was interrupted
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                return JOURNAL_NOT_REUSABLE;
+            }
+            record.applyTo(persons);
+        }
+        return lines.size() - 1;
+    }
+
+    /**
+     * Returns the snapshot checksum named by the {@code BASE} record in {@code line}, or an impossible checksum if
+     * the record could not be read.
+     */
+    private static long readBaseChecksum(String line) {
+        try {
+            return readRecord(line).getSnapshotChecksum();
+        } catch (IOException | IllegalValueException e) {
+            return -1;
+        }
+    }
+
+    private static JsonAdaptedJournalRecord readRecord(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+    }
+
+    private static byte[] toLines(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        return lines.toString().getBytes(UTF_8);
+    }
+
+    /**
+     * Returns the records that turn {@code oldPersons} into {@code newPersons}, or null if the change cannot be
+     * expressed in place, such as when persons were reordered.
+     * Persons are compared by identity, so only persons that were added or replaced are serialised.
+     */
+    static List<JsonAdaptedJournalRecord> diff(List<Person> oldPersons, List<Person> newPersons) {
+        // Skip the unchanged prefix and suffix, which cover everything but the edited positions in the usual case
+        int start = 0;
+        int minSize = Math.min(oldPersons.size(), newPersons.size());
+        while (start < minSize && oldPersons.get(start) == newPersons.get(start)) {
+            start++;
+        }
+        int oldEnd = oldPersons.size();
+        int newEnd = newPersons.size();
+        while (oldEnd > start && newEnd > start && oldPersons.get(oldEnd - 1) == newPersons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        Map<Person, Integer> oldPositions = new IdentityHashMap<>();
+        for (int i = start; i < oldEnd; i++) {
+            oldPositions.put(oldPersons.get(i), i);
+        }
+
+        // Persons present in both windows anchor the gaps between them, which are edited position by position
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int position = start;
+        int oldCursor = start;
+        int newCursor = start;
+        for (int j = start; j <= newEnd; j++) {
+            Integer anchor = j < newEnd ? oldPositions.get(newPersons.get(j)) : Integer.valueOf(oldEnd);
+            if (anchor == null) {
+                continue;
+            }
+            if (anchor < oldCursor) {
+                return null;
+            }
+
+            int removedCount = anchor - oldCursor;
+            int addedCount = j - newCursor;
+            for (int k = 0; k < Math.min(removedCount, addedCount); k++) {
+                records.add(JsonAdaptedJournalRecord.set(position++, newPersons.get(newCursor + k)));
+            }
+            for (int k = addedCount; k < removedCount; k++) {
+                records.add(JsonAdaptedJournalRecord.remove(position));
+            }
+            for (int k = removedCount; k < addedCount; k++) {
+                records.add(JsonAdaptedJournalRecord.insert(position++, newPersons.get(newCursor + k)));
+            }
+
+            position++;
+            oldCursor = anchor + 1;
+            newCursor = j + 1;
+        }
+        return records;
+    }
+}
@@ -50,7 +50,7 @@ class JsonAdaptedAttendance {
         if (!Week.isValidWeek(week)) {
             throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
         }
-        final Week modelWeek = new Week(week);
+        final Week modelWeek = Week.of(week);
 
         if (status == null) {
             throw new IllegalValueException("Attendance status is missing!");
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one line of an address book journal.
+ * The first line of a journal is a {@code BASE} record naming the snapshot that the journal applies to. Every later
+ * line changes the person at {@code index} of the list built so far.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record refers to a position outside the address book.";
+    public static final String MESSAGE_MISSING_FIELD = "Journal record is missing its %s field!";
+
+    /**
+     * The kinds of journal records.
+     */
+    enum Operation {
+        BASE, SET, INSERT, REMOVE
+    }
+
+    private final String operation;
+    private final Long snapshotChecksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+            @JsonProperty("snapshotChecksum") Long snapshotChecksum, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record stating that the journal applies to the snapshot with the given checksum.
+     */
+    public static JsonAdaptedJournalRecord base(long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(Operation.BASE.name(), snapshotChecksum, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.SET.name(), null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord insert(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.INSERT.name(), null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE.name(), null, index, null);
+    }
+
+    /**
+     * Returns the checksum of the snapshot this journal applies to.
+     *
+     * @throws IllegalValueException if this is not a {@code BASE} record.
+     */
+    public long getSnapshotChecksum() throws IllegalValueException {
+        if (toOperation() != Operation.BASE || snapshotChecksum == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "snapshotChecksum"));
+        }
+        return snapshotChecksum;
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        Operation modelOperation = toOperation();
+        if (modelOperation == Operation.BASE) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+        if (index == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "index"));
+        }
+        int upperBound = modelOperation == Operation.INSERT ? persons.size() : persons.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+
+        if (modelOperation == Operation.REMOVE) {
+            persons.remove((int) index);
+            return;
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "person"));
+        }
+        Person modelPerson = person.toModelType();
+        if (modelOperation == Operation.SET) {
+            persons.set(index, modelPerson);
+        } else {
+            persons.add(index, modelPerson);
+        }
+    }
+
+    private Operation toOperation() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, "operation"));
+        }
+        try {
+            return Operation.valueOf(operation);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+}
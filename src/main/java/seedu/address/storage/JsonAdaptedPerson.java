@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -10,7 +12,10 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.attendance.Week;
 import seedu.address.model.consultation.Consultation;
 import seedu.address.model.grade.Grade;
 import seedu.address.model.module.ModuleCode;
@@ -136,6 +141,17 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Set<Grade> modelGrades = new HashSet<>(personGrades);
 
+        // Parse remark
+        final Remark modelRemark;
+        if (remark != null && !remark.isEmpty()) {
+            if (!Remark.isValidRemark(remark)) {
+                throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+            }
+            modelRemark = new Remark(remark);
+        } else {
+            modelRemark = null;
+        }
+
         // Check if this is a student (has studentId and moduleCodes but NO phone/address)
         if (studentId != null && moduleCodes != null && !moduleCodes.isEmpty()
                 && phone == null && address == null) {
@@ -151,28 +167,11 @@ class JsonAdaptedPerson {
                 if (!ModuleCode.isValidModuleCode(mcString)) {
                     throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
                 }
-                modelModuleCodes.add(new ModuleCode(mcString));
+                modelModuleCodes.add(ModuleCode.of(mcString));
             }
 
             // Parse attendance data
-            AttendanceRecord modelAttendanceRecord = new AttendanceRecord();
-            for (JsonAdaptedAttendance attendance : attendances) {
-                modelAttendanceRecord = modelAttendanceRecord.markAttendance(
-                    attendance.toModelType().getWeek(),
-                    attendance.toModelType().getStatus()
-                );
-            }
-
-            // Parse remark
-            final Remark modelRemark;
-            if (remark != null && !remark.isEmpty()) {
-                if (!Remark.isValidRemark(remark)) {
-                    throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
-                }
-                modelRemark = new Remark(remark);
-            } else {
-                modelRemark = null;
-            }
+            final AttendanceRecord modelAttendanceRecord = toModelAttendanceRecord();
 
             // Use student constructor (without phone/address)
             return new Person(modelName, modelStudentId, modelEmail, modelModuleCodes,
@@ -203,7 +202,7 @@ class JsonAdaptedPerson {
                 if (!ModuleCode.isValidModuleCode(mcString)) {
                     throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
                 }
-                modelModuleCodes.add(new ModuleCode(mcString));
+                modelModuleCodes.add(ModuleCode.of(mcString));
             }
         }
 
@@ -219,16 +218,23 @@ class JsonAdaptedPerson {
         }
 
         // Parse attendance data for regular person
-        AttendanceRecord modelAttendanceRecord = new AttendanceRecord();
-        for (JsonAdaptedAttendance attendance : attendances) {
-            modelAttendanceRecord = modelAttendanceRecord.markAttendance(
-                attendance.toModelType().getWeek(),
-                attendance.toModelType().getStatus()
-            );
-        }
+        final AttendanceRecord modelAttendanceRecord = toModelAttendanceRecord();
 
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelStudentId,
-                modelModuleCodes, modelAttendanceRecord);
+                modelModuleCodes, modelAttendanceRecord, modelGrades, personConsultations, modelRemark);
+    }
+
+    /**
+     * Converts the adapted attendances into a single {@code AttendanceRecord}.
+     * A later attendance for the same week replaces an earlier one.
+     */
+    private AttendanceRecord toModelAttendanceRecord() throws IllegalValueException {
+        final Map<Week, AttendanceStatus> attendanceMap = new HashMap<>();
+        for (JsonAdaptedAttendance attendance : attendances) {
+            Attendance modelAttendance = attendance.toModelType();
+            attendanceMap.put(modelAttendance.getWeek(), modelAttendance.getStatus());
+        }
+        return new AttendanceRecord(attendanceMap);
     }
 
 }
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads and writes address books in the format of {@link JsonSerializableAddressBook}, one person at a time.
+ *
+ * Unlike binding the whole file to a {@code JsonSerializableAddressBook}, neither the file contents nor the adapted
+ * persons are ever held in memory all at once, so the memory used while loading or saving grows with the number of
+ * persons in the address book only. Adapted persons are read in batches, and each batch is converted into persons in
+ * parallel before reading continues.
+ */
+class JsonAddressBookCodec {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final int CONVERSION_BATCH_SIZE = 1024;
+
+    /**
+     * Reads an address book from {@code in}, which is left open.
+     *
+     * @throws IOException if {@code in} could not be read or does not contain an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        IOException readFailure = null;
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && field.equals(PERSONS_FIELD)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                        if (batch.size() == CONVERSION_BATCH_SIZE) {
+                            persons.addAll(JsonSerializableAddressBook.toModelTypes(batch));
+                            batch.clear();
+                        }
+                    }
+                } else {
+                    // Unknown fields are ignored, as they are when binding to JsonSerializableAddressBook
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            readFailure = e;
+        }
+
+        // The persons read before an unreadable part are converted even if reading failed. An invalid person among
+        // them is reported instead of the read failure after it, as if every person were converted as it is read.
+        persons.addAll(JsonSerializableAddressBook.toModelTypes(batch));
+        if (readFailure != null) {
+            throw readFailure;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is flushed but left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
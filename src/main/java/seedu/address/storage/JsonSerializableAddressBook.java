@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -46,15 +49,43 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Person> modelPersons = toModelTypes(persons);
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, in the same order.
+     * Persons are converted and validated in parallel, but the error reported is always that of the first invalid
+     * person, as if they had been converted one by one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted persons.
+     */
+    static List<Person> toModelTypes(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        Person[] modelPersons = new Person[adaptedPersons.size()];
+        Exception[] failures = new Exception[adaptedPersons.size()];
+        IntStream.range(0, modelPersons.length).parallel().forEach(i -> {
+            try {
+                modelPersons[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException | RuntimeException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (Exception failure : failures) {
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+        return Arrays.asList(modelPersons);
+    }
+
 }
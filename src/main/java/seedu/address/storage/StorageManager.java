@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to export data to file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.exportAddressBook(addressBook);
+    }
+
 }
@@ -0,0 +1,102 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.attendance.Week;
+
+/**
+ * A strip that shows the attendance of every week, with each week number above a square coloured by its status.
+ * Green square = Present, Red square = Absent, Gray square = No record.
+ *
+ * The whole strip is a single node that paints itself, so it needs no CSS or layout passes of its own.
+ */
+public class AttendanceStrip extends Canvas {
+
+    private static final double COLUMN_WIDTH = 18;
+    private static final double COLUMN_GAP = 10;
+    private static final double WEEK_NUMBER_HEIGHT = 12;
+    private static final double ROW_GAP = 2;
+    private static final double SQUARE_SIZE = 16;
+    private static final double SQUARE_ARC = 2;
+
+    private static final Font WEEK_NUMBER_FONT = Font.font(10.5);
+    private static final Color WEEK_NUMBER_COLOR = Color.web("#aaaaaa");
+    private static final Color PRESENT_COLOR = Color.web("#4CAF50");
+    private static final Color ABSENT_COLOR = Color.web("#F44336");
+    private static final Color NO_RECORD_COLOR = Color.web("#CCCCCC");
+
+    // The attendance currently painted, or null before the first record is set
+    private AttendanceRecord attendanceRecord;
+
+    /**
+     * Creates an {@code AttendanceStrip} that shows the week numbers and no attendance.
+     */
+    public AttendanceStrip() {
+        super(Week.MAX_WEEK * COLUMN_WIDTH + (Week.MAX_WEEK - 1) * COLUMN_GAP,
+                WEEK_NUMBER_HEIGHT + ROW_GAP + SQUARE_SIZE);
+        paintWeekNumbers();
+        setAttendanceRecord(new AttendanceRecord());
+    }
+
+    /**
+     * Shows {@code newRecord}, repainting the squares of the weeks whose status differs from the shown record.
+     */
+    public void setAttendanceRecord(AttendanceRecord newRecord) {
+        requireNonNull(newRecord);
+        if (newRecord.equals(attendanceRecord)) {
+            return;
+        }
+
+        GraphicsContext graphics = getGraphicsContext2D();
+        double squareY = WEEK_NUMBER_HEIGHT + ROW_GAP;
+        for (int week = 1; week <= Week.MAX_WEEK; week++) {
+            AttendanceStatus status = newRecord.getAttendance(Week.of(week));
+            if (attendanceRecord != null && attendanceRecord.getAttendance(Week.of(week)) == status) {
+                continue;
+            }
+
+            double squareX = getColumnX(week) + (COLUMN_WIDTH - SQUARE_SIZE) / 2;
+            graphics.clearRect(squareX, squareY, SQUARE_SIZE, SQUARE_SIZE);
+            graphics.setFill(getColor(status));
+            graphics.fillRoundRect(squareX, squareY, SQUARE_SIZE, SQUARE_SIZE, SQUARE_ARC, SQUARE_ARC);
+        }
+        attendanceRecord = newRecord;
+    }
+
+    public AttendanceRecord getAttendanceRecord() {
+        return attendanceRecord;
+    }
+
+    private void paintWeekNumbers() {
+        GraphicsContext graphics = getGraphicsContext2D();
+        graphics.setFont(WEEK_NUMBER_FONT);
+        graphics.setFill(WEEK_NUMBER_COLOR);
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.CENTER);
+        for (int week = 1; week <= Week.MAX_WEEK; week++) {
+            graphics.fillText(String.valueOf(week), getColumnX(week) + COLUMN_WIDTH / 2, WEEK_NUMBER_HEIGHT / 2);
+        }
+    }
+
+    private static double getColumnX(int week) {
+        return (week - 1) * (COLUMN_WIDTH + COLUMN_GAP);
+    }
+
+    private static Color getColor(AttendanceStatus status) {
+        if (status == AttendanceStatus.PRESENT) {
+            return PRESENT_COLOR;
+        } else if (status == AttendanceStatus.ABSENT) {
+            return ABSENT_COLOR;
+        } else {
+            return NO_RECORD_COLOR;
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,12 +40,14 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, isSuccessful -> {
+            // Give a failed command back for correction, unless the user has started typing another command
+            if (!isSuccessful && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -75,11 +76,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and tells {@code completionHandler} whether it succeeded once it is done.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.BackgroundCommandExecutor#execute(String, Consumer, Consumer)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Consumer<Boolean> completionHandler);
     }
 
 }
@@ -1,11 +1,14 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
@@ -13,10 +16,8 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BackgroundCommandExecutor;
 import seedu.address.logic.Logic;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -30,9 +31,11 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private BackgroundCommandExecutor commandExecutor;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private PersonTablePanel personTablePanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -42,6 +45,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private MenuItem personViewMenuItem;
+
     @FXML
     private StackPane personListPanelPlaceholder;
 
@@ -51,10 +57,14 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane statusbarPlaceholder;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     @FXML
     private Button themeToggleButton;
 
     private boolean isDarkTheme = true;
+    private boolean isTableView = false;
 
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
@@ -65,6 +75,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutor = new BackgroundCommandExecutor(logic);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -80,6 +91,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+        setAccelerator(personViewMenuItem, KeyCombination.valueOf("F2"));
     }
 
     /**
@@ -116,17 +128,20 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandExecutor.getDisplayedPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+        commandExecutor.setBusyHandler(busyIndicator::setVisible);
+        commandExecutor.setRemovedPersonsHandler(personListPanel::evictPersons);
     }
 
     /**
@@ -157,6 +172,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Writes a readable json copy of the data to the data file, and shows whether it was written.
+     */
+    @FXML
+    private void handleExportData() {
+        commandExecutor.exportAddressBook(resultDisplay::setFeedbackToUser);
+    }
+
     /**
      * Closes the application.
      */
@@ -166,7 +189,15 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
-        primaryStage.hide();
+        // Let commands that were entered before exiting finish, so that their changes are saved
+        commandExecutor.shutdown(primaryStage::hide);
+    }
+
+    /**
+     * Executes the commands that are still waiting or running, and blocks until they are done.
+     */
+    void stop() {
+        commandExecutor.shutdown();
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -174,13 +205,31 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Switches the persons between the card list and the dense table.
+     * The table is created the first time it is shown, and both views show the same filtered list.
+     */
+    @FXML
+    private void handlePersonViewToggle() {
+        isTableView = !isTableView;
+        if (isTableView && personTablePanel == null) {
+            personTablePanel = new PersonTablePanel(commandExecutor.getDisplayedPersonList());
+        }
+
+        personListPanelPlaceholder.getChildren().setAll(isTableView
+                ? personTablePanel.getRoot()
+                : personListPanel.getRoot());
+        personViewMenuItem.setText(isTableView ? "Show as Cards" : "Show as Table");
+
+        logger.info("Switched to " + (isTableView ? "table" : "card") + " view");
+    }
+
+    /**
+     * Executes the command in the background, and shows its result once it is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.BackgroundCommandExecutor#execute(String, Consumer, Consumer)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private void executeCommand(String commandText, Consumer<Boolean> completionHandler) {
+        commandExecutor.execute(commandText, commandResult -> {
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -192,12 +241,12 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+            completionHandler.accept(true);
+        }, e -> {
             logger.info("An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            completionHandler.accept(false);
+        });
     }
 
     /**
@@ -1,21 +1,15 @@
 package seedu.address.ui;
 
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
-import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import javafx.scene.shape.Rectangle;
-import seedu.address.model.attendance.AttendanceStatus;
-import seedu.address.model.attendance.Week;
-import seedu.address.model.consultation.Consultation;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,9 +18,6 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
-    private static final int TOTAL_WEEKS = 13;
-    private static final double RECTANGLE_WIDTH = 16;
-    private static final double RECTANGLE_HEIGHT = 16;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -36,8 +27,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -55,116 +44,71 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label consultations;
     @FXML
-    private HBox weekNumbersRow;
-    @FXML
-    private HBox attendanceRow;
+    private AttendanceStrip attendanceStrip;
     @FXML
     private Label remark;
 
+    // The view model currently shown, or null if the card has not been bound to a person yet
+    private PersonViewModel viewModel;
+
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson(PersonViewModel, int)} is called.
+     * The nodes of the card are created once here and reused by every person that the card later shows.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
-        id.setText(String.valueOf(displayedIndex));
-        name.setText(person.getName().fullName);
-        studentId.setText(person.getStudentId() != null ? person.getStudentId().value : "N/A");
-
-        // Modules with placeholder
-        if (!person.getModuleCodes().isEmpty()) {
-            String moduleCodesText = person.getModuleCodes().stream()
-                    .map(mc -> mc.value)
-                    .reduce((a, b) -> a + ", " + b)
-                    .orElse("No modules recorded");
-            moduleCode.setText(moduleCodesText);
-        } else {
-            moduleCode.setText("No modules recorded");
-        }
-
-        // Populate attendance grid
-        populateAttendanceGrid(person);
-
-        // Grades with placeholder
-        if (person.getGrades().isEmpty()) {
-            Label noGradesLabel = new Label("No grades recorded");
-            noGradesLabel.getStyleClass().add("placeholder-text");
-            grades.getChildren().add(noGradesLabel);
-        } else {
-            person.getGrades().stream()
-                    .sorted(Comparator.comparing(grade -> grade.assignmentName))
-                    .forEach(grade -> {
-                        Label gradeLabel = new Label(grade.toString());
-                        gradeLabel.getStyleClass().add("grade-label");
-                        grades.getChildren().add(gradeLabel);
-                    });
-        }
-
-        // Consultations with placeholder
-        consultations.setText(getConsultationsSummary(person));
-
-        // Remark with placeholder
-        remark.setText(person.getRemark() != null ? person.getRemark().value : "No remarks");
+    }
 
-        // Tags (no placeholder needed as tags are optional badges)
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+    public Person getPerson() {
+        return viewModel != null ? viewModel.getPerson() : null;
     }
 
     /**
-     * Populates the attendance grid with 13 weeks, showing colored rectangles.
-     * Green rectangle = Present, Red rectangle = Absent, Gray rectangle = No record.
+     * Shows the person of {@code newViewModel} with the given index on this card.
+     * Only the parts of the card that differ from the previously shown person are updated.
      */
-    private void populateAttendanceGrid(Person person) {
-        Map<Week, AttendanceStatus> attendances = person.getAttendanceRecord().getAllAttendances();
-
-        for (int week = 1; week <= TOTAL_WEEKS; week++) {
-            // Create week number label
-            Label weekLabel = new Label(String.valueOf(week));
-            weekLabel.getStyleClass().add("week-number");
-            weekLabel.setPrefWidth(18);
-            weekLabel.setAlignment(Pos.CENTER);
-            weekNumbersRow.getChildren().add(weekLabel);
+    public void setPerson(PersonViewModel newViewModel, int displayedIndex) {
+        requireNonNull(newViewModel);
+        PersonViewModel oldViewModel = viewModel;
+        viewModel = newViewModel;
+        boolean isFirstPerson = oldViewModel == null;
 
-            // Create attendance rectangle
-            Rectangle attendanceRectangle = new Rectangle(RECTANGLE_WIDTH, RECTANGLE_HEIGHT);
-            attendanceRectangle.getStyleClass().add("attendance-rectangle");
-
-            Week weekObj = new Week(week);
-            if (attendances.containsKey(weekObj)) {
-                AttendanceStatus status = attendances.get(weekObj);
-                if (status == AttendanceStatus.PRESENT) {
-                    attendanceRectangle.setStyle("-fx-fill: #4CAF50;"); // Green
-                    attendanceRectangle.getStyleClass().add("attendance-present");
-                } else {
-                    attendanceRectangle.setStyle("-fx-fill: #F44336;"); // Red
-                    attendanceRectangle.getStyleClass().add("attendance-absent");
-                }
-            } else {
-                attendanceRectangle.setStyle("-fx-fill: #CCCCCC;"); // Gray for no record
-                attendanceRectangle.getStyleClass().add("attendance-no-record");
-            }
-
-            // Wrap rectangle in HBox for alignment
-            HBox rectangleBox = new HBox();
-            rectangleBox.setPrefWidth(18);
-            rectangleBox.setAlignment(Pos.CENTER);
-            rectangleBox.getChildren().add(attendanceRectangle);
-            attendanceRow.getChildren().add(rectangleBox);
+        id.setText(String.valueOf(displayedIndex));
+        name.setText(newViewModel.getName());
+        studentId.setText(newViewModel.getStudentId());
+        moduleCode.setText(newViewModel.getModuleCodes());
+        attendanceStrip.setAttendanceRecord(newViewModel.getAttendanceRecord());
+        if (isFirstPerson || !oldViewModel.getGrades().equals(newViewModel.getGrades())) {
+            updateGrades(newViewModel.getGrades());
+        }
+        consultations.setText(newViewModel.getConsultations());
+        remark.setText(newViewModel.getRemark());
+        if (isFirstPerson || !oldViewModel.getTags().equals(newViewModel.getTags())) {
+            updateTags(newViewModel.getTags());
         }
     }
 
-    private String getConsultationsSummary(Person person) {
-        List<Consultation> consultationList = person.getConsultations();
-
-        if (consultationList.isEmpty()) {
-            return "No consultations";
+    private void updateGrades(List<String> gradeTexts) {
+        // Grades with placeholder
+        if (gradeTexts.isEmpty()) {
+            Label noGradesLabel = new Label("No grades recorded");
+            noGradesLabel.getStyleClass().add("placeholder-text");
+            grades.getChildren().setAll(noGradesLabel);
+        } else {
+            grades.getChildren().setAll(gradeTexts.stream()
+                    .map(gradeText -> {
+                        Label gradeLabel = new Label(gradeText);
+                        gradeLabel.getStyleClass().add("grade-label");
+                        return gradeLabel;
+                    })
+                    .collect(Collectors.toList()));
         }
+    }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy h:mm a");
-        return consultationList.stream()
-                .map(c -> c.getDateTime().format(formatter))
-                .collect(Collectors.joining("\n"));
+    private void updateTags(List<String> tagNames) {
+        // Tags (no placeholder needed as tags are optional badges)
+        tags.getChildren().setAll(tagNames.stream()
+                .map(Label::new)
+                .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,172 @@
+package seedu.address.ui;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.person.Person;
+
+/**
+ * Panel containing the list of persons as a dense table, one row per person.
+ *
+ * The table shows the same list as {@code PersonListPanel}, sorted by the columns chosen by the user. The text and
+ * sort keys of every row are computed once per person and cached, so sorting compares cached values instead of
+ * recomputing them for every comparison.
+ */
+public class PersonTablePanel extends UiPart<Region> {
+    private static final String FXML = "PersonTablePanel.fxml";
+
+    // The cached values of every person that has been shown since it was last removed from the list
+    private final Map<Person, ReadOnlyObjectWrapper<RowValues>> rowValues = new IdentityHashMap<>();
+
+    @FXML
+    private TableView<Person> personTableView;
+    @FXML
+    private TableColumn<Person, RowValues> indexColumn;
+    @FXML
+    private TableColumn<Person, RowValues> nameColumn;
+    @FXML
+    private TableColumn<Person, RowValues> studentIdColumn;
+    @FXML
+    private TableColumn<Person, RowValues> modulesColumn;
+    @FXML
+    private TableColumn<Person, RowValues> averageGradeColumn;
+    @FXML
+    private TableColumn<Person, RowValues> attendanceColumn;
+    @FXML
+    private TableColumn<Person, RowValues> tagsColumn;
+
+    /**
+     * Creates a {@code PersonTablePanel} that shows {@code personList}.
+     */
+    public PersonTablePanel(ObservableList<Person> personList) {
+        super(FXML);
+        personList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(rowValues::remove);
+            }
+        });
+
+        SortedList<Person> sortedPersons = new SortedList<>(personList);
+        sortedPersons.comparatorProperty().bind(personTableView.comparatorProperty());
+        personTableView.setItems(sortedPersons);
+
+        indexColumn.setCellValueFactory(cellData -> getRowValues(cellData.getValue()));
+        indexColumn.setCellFactory(column -> new IndexCell(sortedPersons));
+        setUpColumn(nameColumn, values -> values.name,
+                Comparator.comparing(values -> values.name, String.CASE_INSENSITIVE_ORDER));
+        setUpColumn(studentIdColumn, values -> values.studentId,
+                Comparator.comparing(values -> values.studentId));
+        setUpColumn(modulesColumn, values -> values.modules,
+                Comparator.comparing(values -> values.modules));
+        setUpColumn(averageGradeColumn, values -> values.averageGradeText,
+                Comparator.comparingDouble(values -> values.averageGrade));
+        setUpColumn(attendanceColumn, values -> values.attendanceText,
+                Comparator.<RowValues>comparingInt(values -> values.presentCount)
+                        .thenComparingInt(values -> -values.absentCount));
+        setUpColumn(tagsColumn, values -> values.tags,
+                Comparator.comparing(values -> values.tags, String.CASE_INSENSITIVE_ORDER));
+    }
+
+    private void setUpColumn(TableColumn<Person, RowValues> column, Function<RowValues, String> text,
+            Comparator<RowValues> comparator) {
+        column.setCellValueFactory(cellData -> getRowValues(cellData.getValue()));
+        column.setCellFactory(unused -> new TextCell(text));
+        column.setComparator(comparator);
+    }
+
+    private ReadOnlyObjectWrapper<RowValues> getRowValues(Person person) {
+        return rowValues.computeIfAbsent(person, unused -> new ReadOnlyObjectWrapper<>(new RowValues(person)));
+    }
+
+    /**
+     * The text shown for a person in each column, together with the keys that the columns are sorted by.
+     */
+    private static class RowValues {
+        private static final String NO_VALUE = "-";
+
+        private final String name;
+        private final String studentId;
+        private final String modules;
+        // Persons without grades are sorted after every graded person in ascending order
+        private final double averageGrade;
+        private final String averageGradeText;
+        private final int presentCount;
+        private final int absentCount;
+        private final String attendanceText;
+        private final String tags;
+
+        RowValues(Person person) {
+            name = person.getName().fullName;
+            studentId = person.getStudentId() != null ? person.getStudentId().value : NO_VALUE;
+            modules = person.getModuleCodes().stream()
+                    .map(moduleCode -> moduleCode.value)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            tags = person.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .collect(Collectors.joining(", "));
+
+            averageGrade = person.getGrades().stream()
+                    .mapToInt(grade -> Integer.parseInt(grade.score))
+                    .average()
+                    .orElse(Double.POSITIVE_INFINITY);
+            averageGradeText = person.getGrades().isEmpty() ? NO_VALUE : String.format("%.1f", averageGrade);
+
+            AttendanceRecord attendanceRecord = person.getAttendanceRecord();
+            presentCount = attendanceRecord.countPresent();
+            absentCount = attendanceRecord.countAbsent();
+            attendanceText = attendanceRecord.isEmpty()
+                    ? NO_VALUE
+                    : String.format("%d present, %d absent", presentCount, absentCount);
+        }
+    }
+
+    /**
+     * A cell that shows one piece of text from the cached values of its row.
+     */
+    private static class TextCell extends TableCell<Person, RowValues> {
+        private final Function<RowValues, String> text;
+
+        TextCell(Function<RowValues, String> text) {
+            this.text = text;
+        }
+
+        @Override
+        protected void updateItem(RowValues values, boolean empty) {
+            super.updateItem(values, empty);
+            setText(empty || values == null ? null : text.apply(values));
+        }
+    }
+
+    /**
+     * A cell that shows the index of its person in the unsorted list, which is the index that commands refer to.
+     */
+    private static class IndexCell extends TableCell<Person, RowValues> {
+        private final SortedList<Person> sortedPersons;
+
+        IndexCell(SortedList<Person> sortedPersons) {
+            this.sortedPersons = sortedPersons;
+        }
+
+        @Override
+        protected void updateItem(RowValues values, boolean empty) {
+            super.updateItem(values, empty);
+            boolean hasPerson = !empty && values != null && getIndex() < sortedPersons.size();
+            setText(hasPerson ? String.valueOf(sortedPersons.getSourceIndex(getIndex()) + 1) : null);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.person.Person;
+
+/**
+ * The text that a {@code PersonCard} shows for a {@code Person}, computed once when the view model is created.
+ *
+ * A view model is immutable and may be created on any thread, so that showing a person only copies its fields.
+ */
+public class PersonViewModel {
+
+    public static final String NO_STUDENT_ID = "N/A";
+    public static final String NO_MODULES = "No modules recorded";
+    public static final String NO_CONSULTATIONS = "No consultations";
+    public static final String NO_REMARK = "No remarks";
+
+    private static final DateTimeFormatter CONSULTATION_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy h:mm a");
+
+    private final Person person;
+    private final String name;
+    private final String studentId;
+    private final String moduleCodes;
+    private final List<String> grades;
+    private final String consultations;
+    private final String remark;
+    private final List<String> tags;
+
+    /**
+     * Creates the view model of {@code person}.
+     */
+    public PersonViewModel(Person person) {
+        requireNonNull(person);
+        this.person = person;
+        name = person.getName().fullName;
+        studentId = person.getStudentId() != null ? person.getStudentId().value : NO_STUDENT_ID;
+        moduleCodes = person.getModuleCodes().isEmpty()
+                ? NO_MODULES
+                : person.getModuleCodes().stream()
+                        .map(mc -> mc.value)
+                        .collect(Collectors.joining(", "));
+        grades = person.getGrades().stream()
+                .sorted(Comparator.comparing(grade -> grade.assignmentName))
+                .map(Object::toString)
+                .collect(Collectors.toUnmodifiableList());
+        consultations = person.getConsultations().isEmpty()
+                ? NO_CONSULTATIONS
+                : person.getConsultations().stream()
+                        .map(c -> c.getDateTime().format(CONSULTATION_FORMATTER))
+                        .collect(Collectors.joining("\n"));
+        remark = person.getRemark() != null ? person.getRemark().value : NO_REMARK;
+        tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getModuleCodes() {
+        return moduleCodes;
+    }
+
+    /**
+     * Returns the label of every grade, ordered by assignment name.
+     */
+    public List<String> getGrades() {
+        return grades;
+    }
+
+    public String getConsultations() {
+        return consultations;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    /**
+     * Returns the name of every tag, in alphabetical order.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public AttendanceRecord getAttendanceRecord() {
+        return person.getAttendanceRecord();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Holds the {@code PersonViewModel} of every person that has been in a list, keyed by the identity of the person.
+ *
+ * The view models of persons added to the list are built on a background thread, so that they are usually ready
+ * before the persons are first shown. A view model that is not ready yet is built when it is asked for instead.
+ * Persons are immutable, so a view model stays valid until its person is evicted.
+ *
+ * Persons that leave the list are kept, as the list is usually a filtered one that they may soon return to. They
+ * must be evicted with {@link #evict(List)} once they are removed from the address book.
+ */
+public class PersonViewModelCache {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-view-model-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Both guarded by this
+    private final Map<Person, PersonViewModel> viewModels = new IdentityHashMap<>();
+    // The persons that have been in the list whose view models are not built yet
+    private final Set<Person> pendingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a {@code PersonViewModelCache} that follows the persons added to {@code personList}.
+     * {@code personList} must only be changed on the JavaFX application thread.
+     */
+    public PersonViewModelCache(ObservableList<Person> personList) {
+        requireNonNull(personList);
+        personList.addListener((ListChangeListener<Person>) change -> {
+            List<Person> addedPersons = new ArrayList<>();
+            while (change.next()) {
+                addedPersons.addAll(change.getAddedSubList());
+            }
+            scheduleBuild(addedPersons);
+        });
+        scheduleBuild(new ArrayList<>(personList));
+    }
+
+    /**
+     * Discards the view models of {@code persons}, which are no longer in the address book.
+     */
+    public synchronized void evict(List<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            viewModels.remove(person);
+            pendingPersons.remove(person);
+        }
+    }
+
+    /**
+     * Returns the view model of {@code person}, building it now if it has not been built yet.
+     * The view model of a person that has never been in the list, or has been evicted, is built without being
+     * cached.
+     */
+    public synchronized PersonViewModel get(Person person) {
+        requireNonNull(person);
+        PersonViewModel viewModel = viewModels.get(person);
+        if (viewModel == null) {
+            viewModel = new PersonViewModel(person);
+            if (pendingPersons.remove(person)) {
+                viewModels.put(person, viewModel);
+            }
+        }
+        return viewModel;
+    }
+
+    private synchronized void scheduleBuild(List<Person> persons) {
+        // Persons that return to the list after being filtered out still have their view models
+        List<Person> newPersons = new ArrayList<>();
+        for (Person person : persons) {
+            if (!viewModels.containsKey(person) && pendingPersons.add(person)) {
+                newPersons.add(person);
+            }
+        }
+        if (!newPersons.isEmpty()) {
+            executor.execute(() -> newPersons.forEach(this::build));
+        }
+    }
+
+    private void build(Person person) {
+        synchronized (this) {
+            if (!pendingPersons.contains(person)) {
+                return;
+            }
+        }
+
+        PersonViewModel viewModel = new PersonViewModel(person);
+        synchronized (this) {
+            // The person may have been evicted, or shown, while its view model was being built
+            if (pendingPersons.remove(person)) {
+                viewModels.put(person, viewModel);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitAtCommas() throws Exception {
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("d", "", "f")), readAll("a,b,c\nd,,f\n"));
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepSeparatorsAndQuotes() throws Exception {
+        assertEquals(List.of(List.of("Lee, Jane", "line 1\nline 2", "say \"hi\"")),
+                readAll("\"Lee, Jane\",\"line 1\nline 2\",\"say \"\"hi\"\"\""));
+    }
+
+    @Test
+    public void readRecord_crlfAndByteOrderMark_ignored() throws Exception {
+        assertEquals(List.of(List.of("Name", "Email"), List.of("Amy", "amy@example.com")),
+                readAll("\uFEFFName,Email\r\nAmy,amy@example.com\r\n"));
+    }
+
+    @Test
+    public void readRecord_emptyLine_singleEmptyField() throws Exception {
+        assertEquals(List.of(List.of("a"), List.of(""), List.of("b")), readAll("a\n\nb"));
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws Exception {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_recordsLongerThanBuffer_readInFull() throws Exception {
+        String longField = "x".repeat(20_000);
+        assertEquals(List.of(List.of(longField, "y"), List.of("z")), readAll(longField + ",y\nz"));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, () -> readAll("a,\"b\nc"));
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
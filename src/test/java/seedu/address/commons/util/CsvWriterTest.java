@@ -0,0 +1,29 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_plainAndNullFields_writtenUnquoted() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord("a", null, "c");
+        assertEquals("a,,c\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quotedAndReadBack() throws Exception {
+        String[] fields = {"Lee, Jane", "say \"hi\"", "line 1\nline 2", "\"", ""};
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+
+        assertEquals("\"Lee, Jane\",\"say \"\"hi\"\"\",\"line 1\nline 2\",\"\"\"\",\r\n", out.toString());
+        assertEquals(List.of(fields), new CsvReader(new StringReader(out.toString())).readRecord());
+    }
+}
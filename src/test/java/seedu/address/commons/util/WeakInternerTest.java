@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final List<String> created = new ArrayList<>();
+    private final WeakInterner<Value> interner = new WeakInterner<>(key -> {
+        created.add(key);
+        return new Value(key);
+    }, value -> value.key);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>(null, s -> s));
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>(s -> s, null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        Value first = interner.intern("CS2103T");
+        assertSame(first, interner.intern(new String("CS2103T")));
+        assertEquals(List.of("CS2103T"), created);
+    }
+
+    @Test
+    public void intern_differentKeys_returnsDifferentInstances() {
+        assertNotSame(interner.intern("CS2103T"), interner.intern("CS2101"));
+        assertEquals(List.of("CS2103T", "CS2101"), created);
+    }
+
+    private static class Value {
+        private final String key;
+
+        private Value(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.MODULE_CODE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.MODULE_CODE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BackgroundCommandExecutorTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<String> outcomes = new CopyOnWriteArrayList<>();
+    private BackgroundCommandExecutor commandExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandExecutor = new BackgroundCommandExecutor(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void execute_commands_executedInSubmittedOrder() {
+        String addAmy = AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENT_ID_DESC_AMY + EMAIL_DESC_AMY
+                + MODULE_CODE_DESC_AMY;
+        String addBob = AddCommand.COMMAND_WORD + NAME_DESC_BOB + STUDENT_ID_DESC_BOB + EMAIL_DESC_BOB
+                + MODULE_CODE_DESC_BOB;
+        int initialSize = model.getFilteredPersonList().size();
+
+        execute(addAmy);
+        execute(addBob);
+        execute(DeleteCommand.COMMAND_WORD + " " + (initialSize + 1));
+        commandExecutor.flush();
+
+        assertEquals(3, outcomes.size());
+        assertTrue(outcomes.stream().allMatch(outcome -> outcome.startsWith("success: ")));
+        assertEquals(initialSize + 1, model.getFilteredPersonList().size());
+        assertEquals(VALID_NAME_BOB, model.getFilteredPersonList().get(initialSize).getName().fullName);
+    }
+
+    @Test
+    public void execute_invalidCommand_reportsFailure() {
+        execute("uicfhmowqewca");
+        commandExecutor.flush();
+
+        assertEquals(List.of("failure: " + ParseException.class.getSimpleName() + ": " + MESSAGE_UNKNOWN_COMMAND),
+                outcomes);
+    }
+
+    @Test
+    public void execute_filteringCommand_updatesDisplayedPersons() {
+        execute(FindCommand.COMMAND_WORD + " Meier");
+        commandExecutor.flush();
+
+        assertEquals(model.getFilteredPersonList(), commandExecutor.getDisplayedPersonList());
+        assertEquals(2, commandExecutor.getDisplayedPersonList().size());
+
+        execute("list");
+        commandExecutor.flush();
+        assertEquals(model.getFilteredPersonList(), commandExecutor.getDisplayedPersonList());
+    }
+
+    @Test
+    public void execute_commands_reportsBusyUntilAllAreDone() {
+        List<Boolean> busyStates = new CopyOnWriteArrayList<>();
+        commandExecutor.setBusyHandler(busyStates::add);
+
+        execute("list");
+        commandExecutor.flush();
+
+        assertEquals(List.of(true, false), busyStates);
+    }
+
+    @Test
+    public void execute_deleteCommand_reportsRemovedPerson() {
+        List<List<Person>> reported = new CopyOnWriteArrayList<>();
+        commandExecutor.setRemovedPersonsHandler(reported::add);
+        Person firstPerson = model.getFilteredPersonList().get(0);
+
+        execute(FindCommand.COMMAND_WORD + " Meier");
+        execute("list");
+        execute(DeleteCommand.COMMAND_WORD + " 1");
+        commandExecutor.flush();
+
+        assertEquals(List.of(List.of(firstPerson)), reported);
+    }
+
+    @Test
+    public void getDisplayedPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> commandExecutor.getDisplayedPersonList().remove(0));
+    }
+
+    @Test
+    public void shutdown_calledTwice_doesNothing() {
+        commandExecutor.shutdown();
+        commandExecutor.shutdown();
+        assertTrue(outcomes.isEmpty());
+    }
+
+    @Test
+    public void shutdown_withTerminationHandler_runsHandlerAfterRemainingCommands() {
+        execute("list");
+        execute("uicfhmowqewca");
+        commandExecutor.shutdown(() -> outcomes.add("terminated"));
+        commandExecutor.shutdown(() -> outcomes.add("terminated again"));
+        commandExecutor.shutdown();
+
+        assertEquals(3, outcomes.size());
+        assertEquals("terminated", outcomes.get(2));
+    }
+
+    @Test
+    public void execute_afterShutdown_ignored() {
+        List<Boolean> busyStates = new CopyOnWriteArrayList<>();
+        commandExecutor.setBusyHandler(busyStates::add);
+        commandExecutor.shutdown();
+
+        execute("list");
+        assertTrue(outcomes.isEmpty());
+        assertTrue(busyStates.isEmpty());
+    }
+
+    private void execute(String commandText) {
+        commandExecutor.execute(commandText,
+            result -> outcomes.add("success: " + result.getFeedbackToUser()),
+            e -> outcomes.add("failure: " + e.getClass().getSimpleName() + ": " + e.getMessage()));
+    }
+}
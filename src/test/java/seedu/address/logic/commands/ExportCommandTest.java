@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.attendance.Week;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    private static final String WEEK_HEADER = ",Week 1,Week 2,Week 3,Week 4,Week 5,Week 6,Week 7,Week 8,Week 9,"
+            + "Week 10,Week 11,Week 12,Week 13";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_displayedStudents_writesGradeAndAttendanceMatrix() throws Exception {
+        Person amy = new PersonBuilder().withName("Amy Bee").withStudentId("A1111111A").withEmail("amy@u.nus.edu")
+                .withModuleCodes("CS2103T", "CS2101").withGrade("quiz", "70").withGrade("Midterm", "85")
+                .withAttendance(Week.of(1), AttendanceStatus.PRESENT)
+                .withAttendance(Week.of(13), AttendanceStatus.ABSENT).build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withStudentId("A2222222B").withEmail("bob@u.nus.edu")
+                .withModuleCodes("CS2103T").withGrade("Final", "100").build();
+        Person hidden = new PersonBuilder().withName("Carl Dee").withStudentId("A3333333C")
+                .withEmail("carl@u.nus.edu").withModuleCodes("CS2103T").withGrade("Hidden", "1").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(amy, bob, hidden));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        model.updateFilteredPersonList(person -> person != hidden);
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person != hidden);
+        Path filePath = testFolder.resolve("exports").resolve("grades.csv");
+
+        assertCommandSuccess(new ExportCommand(filePath), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, "2 students", filePath), expectedModel);
+
+        assertEquals(List.of(
+                "Name,Student ID,Email,Modules,Final,Midterm,quiz" + WEEK_HEADER,
+                "Amy Bee,A1111111A,amy@u.nus.edu,CS2101 CS2103T,,85,70,present,,,,,,,,,,,,absent",
+                "Bob Choo,A2222222B,bob@u.nus.edu,CS2103T,100,,,,,,,,,,,,,,,"),
+                Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void execute_exportedFile_canBeImported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path filePath = testFolder.resolve("roster.csv");
+        new ExportCommand(filePath).execute(model);
+
+        List<Person> students = new ArrayList<>(model.getAddressBook().getPersonList());
+        Model emptyModel = new ModelManager();
+        new ImportCommand(filePath).execute(emptyModel);
+
+        assertEquals(students.size(), emptyModel.getAddressBook().getPersonList().size());
+        for (int i = 0; i < students.size(); i++) {
+            Person imported = emptyModel.getAddressBook().getPersonList().get(i);
+            assertEquals(students.get(i).getStudentId(), imported.getStudentId());
+            assertEquals(students.get(i).getModuleCodes(), imported.getModuleCodes());
+        }
+    }
+
+    @Test
+    public void execute_dataFiles_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path dataFilePath = model.getAddressBookFilePath();
+        Path snapshotPath = JournaledAddressBookStorage.getSnapshotFilePath(dataFilePath);
+        for (Path filePath : List.of(dataFilePath, snapshotPath,
+                JournaledAddressBookStorage.getJournalFilePath(snapshotPath),
+                dataFilePath.resolveSibling("..").resolve(dataFilePath))) {
+            assertCommandFailure(new ExportCommand(filePath), model,
+                    String.format(ExportCommand.MESSAGE_DATA_FILE, filePath));
+        }
+    }
+
+    @Test
+    public void execute_writeFails_leavesExistingFile() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // A directory that is not empty cannot be replaced by the exported file
+        Path filePath = testFolder.resolve("grades.csv");
+        Files.createDirectory(filePath);
+        Files.writeString(filePath.resolve("kept.txt"), "kept");
+
+        assertThrows(CommandException.class, () -> new ExportCommand(filePath).execute(model));
+        assertEquals("kept", Files.readString(filePath.resolve("kept.txt")));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirst = new ExportCommand(Path.of("first.csv"));
+
+        assertTrue(exportFirst.equals(exportFirst));
+        assertTrue(exportFirst.equals(new ExportCommand(Path.of("first.csv"))));
+        assertFalse(exportFirst.equals(null));
+        assertFalse(exportFirst.equals(1));
+        assertFalse(exportFirst.equals(new ExportCommand(Path.of("second.csv"))));
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RosterCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "Name,Student ID,Email,Modules,Tags";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validRoster_addsAllStudents() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Amy Bee,A1111111A,amy@u.nus.edu,CS2103T CS2101,struggling",
+                "",
+                "\"Bob Lee\",A2222222B,bob@u.nus.edu,\"CS2103T;CS2101\",");
+        Person amy = new PersonBuilder().withName("Amy Bee").withStudentId("A1111111A").withEmail("amy@u.nus.edu")
+                .withModuleCodes("CS2103T", "CS2101").withTags("struggling").build();
+        Person bob = new PersonBuilder().withName("Bob Lee").withStudentId("A2222222B").withEmail("bob@u.nus.edu")
+                .withModuleCodes("CS2103T", "CS2101").withTags().build();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(amy, bob));
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, "2 students", filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRows_reportsAllErrorsAndAddsNothing() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Amy Bee,123,amy@u.nus.edu,CS2103T,",
+                "Bob Choo,A2222222B,bob@u.nus.edu,CS2103T,",
+                "Bob Again,A2222222B,bob.again@u.nus.edu,CS2103T,",
+                "Alice Copy,A3333333C,alice@example.com,CS2103T,",
+                "Carl Dee,A4444444D,carl@u.nus.edu,,");
+        List<String> errors = List.of(
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, StudentId.MESSAGE_CONSTRAINTS),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 4,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_STUDENT_ID_IN_FILE, "A2222222B", 3)),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(ImportCommand.MESSAGE_DUPLICATE_EMAIL, "alice@example.com")),
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(RosterCsvParser.MESSAGE_MISSING_VALUE, "Modules")));
+
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_INVALID_ROWS,
+                "4 rows", Messages.formatBulletList(errors)));
+    }
+
+    @Test
+    public void execute_rowsSpanningSeveralBatches_rowNumbersKept() throws Exception {
+        int rowCount = ImportCommand.VALIDATION_BATCH_SIZE * 2 + 10;
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < rowCount; i++) {
+            lines.add(String.format("Student %d,A%07dZ,student%d@u.nus.edu,CS2103T,", i, i, i));
+        }
+        int invalidRow = ImportCommand.VALIDATION_BATCH_SIZE + 5;
+        lines.set(invalidRow - 1, "Invalid Student,A9999999Z,not an email,CS2103T,");
+
+        String message = assertThrowsCommandException(new ImportCommand(writeCsv(lines.toArray(new String[0]))));
+        assertTrue(message.contains(String.format("Row %d: ", invalidRow)));
+        assertTrue(message.startsWith(String.format(ImportCommand.MESSAGE_INVALID_ROWS, "1 row", "")));
+
+        lines.remove(invalidRow - 1);
+        new ImportCommand(writeCsv(lines.toArray(new String[0]))).execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList().size() + rowCount - 1,
+                model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_listsOnlyFirstErrors() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 3; i++) {
+            lines.add("Student,invalid,student@u.nus.edu,CS2103T,");
+        }
+
+        String message = assertThrowsCommandException(new ImportCommand(writeCsv(lines.toArray(new String[0]))));
+        assertTrue(message.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 3)));
+    }
+
+    @Test
+    public void execute_missingColumns_failure() throws Exception {
+        Path filePath = writeCsv("Name,Email", "Amy Bee,amy@u.nus.edu");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(RosterCsvParser.MESSAGE_MISSING_COLUMNS, "Student ID, Modules"));
+    }
+
+    @Test
+    public void execute_headerOnly_failure() throws Exception {
+        Path filePath = writeCsv(HEADER);
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_NO_STUDENTS, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirst = new ImportCommand(Path.of("first.csv"));
+
+        assertTrue(importFirst.equals(importFirst));
+        assertTrue(importFirst.equals(new ImportCommand(Path.of("first.csv"))));
+        assertFalse(importFirst.equals(null));
+        assertFalse(importFirst.equals(1));
+        assertFalse(importFirst.equals(new ImportCommand(Path.of("second.csv"))));
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path filePath = Files.createTempFile(testFolder, "roster", ".csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+
+    private String assertThrowsCommandException(ImportCommand command) {
+        return Assertions.assertThrows(CommandException.class, () -> command.execute(model)).getMessage();
+    }
+}
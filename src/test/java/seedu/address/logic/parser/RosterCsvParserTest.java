@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RosterCsvParserTest {
+
+    private static final List<String> HEADER = List.of("Name", "Student ID", "Email", "Modules", "Tags");
+
+    @Test
+    public void constructor_missingColumns_throwsParseException() {
+        String expectedMessage = String.format(RosterCsvParser.MESSAGE_MISSING_COLUMNS, "Student ID, Modules");
+        assertThrows(ParseException.class, expectedMessage, () ->
+                new RosterCsvParser(List.of("Name", "Email", "Tags")));
+    }
+
+    @Test
+    public void parseRow_validRow_returnsStudent() throws Exception {
+        Person expected = new PersonBuilder().withName("Amy Bee").withStudentId("A0123456X")
+                .withEmail("amy@u.nus.edu").withModuleCodes("CS2103T", "CS2101").withTags("struggling").build();
+
+        Person person = new RosterCsvParser(HEADER)
+                .parseRow(List.of(" Amy Bee ", "a0123456x", "amy@u.nus.edu", "CS2103T; CS2101", "struggling"));
+
+        assertEquals(expected, person);
+    }
+
+    @Test
+    public void parseRow_columnNamesInOtherFormsAndOrder_returnsStudent() throws Exception {
+        RosterCsvParser parser = new RosterCsvParser(List.of("EMAIL", "Faculty", "student_id", "Module Code", "name"));
+
+        Person person = parser.parseRow(List.of("amy@u.nus.edu", "SoC", "A0123456X", "CS2103T", "Amy Bee"));
+
+        assertEquals("Amy Bee", person.getName().fullName);
+        assertEquals(new Email("amy@u.nus.edu"), person.getEmail());
+    }
+
+    @Test
+    public void parseRow_missingCell_throwsParseException() throws Exception {
+        RosterCsvParser parser = new RosterCsvParser(HEADER);
+        assertThrows(ParseException.class, String.format(RosterCsvParser.MESSAGE_MISSING_VALUE, "Modules"), () ->
+                parser.parseRow(List.of("Amy Bee", "A0123456X", "amy@u.nus.edu")));
+    }
+
+    @Test
+    public void parseRow_invalidValue_throwsParseException() throws Exception {
+        RosterCsvParser parser = new RosterCsvParser(HEADER);
+        assertThrows(ParseException.class, () ->
+                parser.parseRow(List.of("Amy Bee", "123", "amy@u.nus.edu", "CS2103T", "")));
+    }
+}
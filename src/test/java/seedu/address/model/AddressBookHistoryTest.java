@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(new AddressBook(), -1));
+    }
+
+    @Test
+    public void commit_unchangedAddressBook_nothingToUndo() {
+        AddressBookHistory history = new AddressBookHistory(getTypicalAddressBook(), 100);
+        history.commit();
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+    }
+
+    @Test
+    public void undoRedo_severalChanges_restoresEachState() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookHistory history = new AddressBookHistory(addressBook, 100);
+        List<List<Person>> states = new ArrayList<>();
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        addressBook.addPerson(HOON);
+        history.commit();
+        states.add(List.copyOf(addressBook.getPersonList()));
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("tutor").build());
+        history.commit();
+        states.add(List.copyOf(addressBook.getPersonList()));
+        addressBook.removePerson(ALICE);
+        history.commit();
+        states.add(List.copyOf(addressBook.getPersonList()));
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            history.undo();
+            assertEquals(states.get(i), addressBook.getPersonList());
+        }
+        assertFalse(history.canUndo());
+
+        for (int i = 1; i < states.size(); i++) {
+            history.redo();
+            assertEquals(states.get(i), addressBook.getPersonList());
+        }
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_restoresSamePersonInstances() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person originalBenson = addressBook.getPersonList().get(1);
+        AddressBookHistory history = new AddressBookHistory(addressBook, 100);
+
+        addressBook.setPerson(originalBenson, new PersonBuilder(originalBenson).withTags("tutor").build());
+        history.commit();
+        history.undo();
+
+        assertSame(originalBenson, addressBook.getPersonList().get(1));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookHistory history = new AddressBookHistory(addressBook, 100);
+        addressBook.addPerson(HOON);
+        history.commit();
+        history.undo();
+
+        addressBook.addPerson(IDA);
+        history.commit();
+
+        assertFalse(history.canRedo());
+        history.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void commit_overCapacity_evictsOldestChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookHistory history = new AddressBookHistory(addressBook, 2);
+
+        // Each edit keeps the earlier version of one person
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags("first").build());
+        history.commit();
+        List<Person> afterFirstEdit = List.copyOf(addressBook.getPersonList());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("second").build());
+        history.commit();
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withTags("third").build());
+        history.commit();
+
+        history.undo();
+        history.undo();
+        assertEquals(afterFirstEdit, addressBook.getPersonList());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_editsFarApart_holdsOnlyEditedPersons() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> original = List.copyOf(addressBook.getPersonList());
+        Person last = original.get(original.size() - 1);
+        AddressBookHistory history = new AddressBookHistory(addressBook, 2);
+
+        // Only the two edited persons count against the capacity, not every person between them
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags("first").build());
+        addressBook.setPerson(last, new PersonBuilder(last).withTags("last").build());
+        history.commit();
+        List<Person> edited = List.copyOf(addressBook.getPersonList());
+
+        history.undo();
+        assertEquals(original, addressBook.getPersonList());
+        for (int i = 0; i < original.size(); i++) {
+            assertSame(original.get(i), addressBook.getPersonList().get(i));
+        }
+        history.redo();
+        assertEquals(edited, addressBook.getPersonList());
+    }
+
+    @Test
+    public void setCapacity_zero_forgetsAllChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookHistory history = new AddressBookHistory(addressBook, 100);
+        addressBook.removePerson(ALICE);
+        history.commit();
+
+        history.setCapacity(0);
+
+        assertFalse(history.canUndo());
+    }
+}
@@ -3,7 +3,11 @@ package seedu.address.model.attendance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -141,4 +145,72 @@ public class AttendanceRecordTest {
         assertTrue(updatedRecord.hasAttendance(new Week(3)));
         assertEquals(2, updatedRecord.getAllAttendances().size());
     }
+
+    @Test
+    public void countPresentAndCountAbsent_mixedRecord_countsEachStatus() {
+        AttendanceRecord record = new AttendanceRecord();
+        for (int week = 1; week <= 13; week++) {
+            AttendanceStatus status = week % 3 == 0 ? AttendanceStatus.ABSENT : AttendanceStatus.PRESENT;
+            record = record.markAttendance(new Week(week), status);
+        }
+        record = record.unmarkAttendance(new Week(1));
+
+        assertEquals(8, record.countPresent());
+        assertEquals(4, record.countAbsent());
+        assertEquals(12, record.size());
+    }
+
+    @Test
+    public void getAbsentWeeks_mixedRecord_returnsAbsentWeeksInOrder() {
+        AttendanceRecord record = new AttendanceRecord()
+                .markAttendance(new Week(13), AttendanceStatus.ABSENT)
+                .markAttendance(new Week(2), AttendanceStatus.PRESENT)
+                .markAttendance(new Week(1), AttendanceStatus.ABSENT);
+
+        assertEquals(Arrays.asList(new Week(1), new Week(13)), record.getAbsentWeeks());
+        assertEquals(Collections.emptyList(), new AttendanceRecord().getAbsentWeeks());
+    }
+
+    @Test
+    public void getAllAttendances_unorderedMarks_returnsWeekOrder() {
+        AttendanceRecord record = new AttendanceRecord()
+                .markAttendance(new Week(10), AttendanceStatus.PRESENT)
+                .markAttendance(new Week(3), AttendanceStatus.ABSENT);
+
+        assertEquals(Arrays.asList(new Week(3), new Week(10)),
+                Arrays.asList(record.getAllAttendances().keySet().toArray()));
+    }
+
+    @Test
+    public void equals_sameAttendanceBuiltDifferently_returnsTrue() {
+        Map<Week, AttendanceStatus> map = new HashMap<>();
+        map.put(new Week(4), AttendanceStatus.PRESENT);
+        map.put(new Week(7), AttendanceStatus.ABSENT);
+        AttendanceRecord fromMap = new AttendanceRecord(map);
+        AttendanceRecord fromMarks = new AttendanceRecord()
+                .markAttendance(new Week(7), AttendanceStatus.ABSENT)
+                .markAttendance(new Week(2), AttendanceStatus.ABSENT)
+                .markAttendance(new Week(4), AttendanceStatus.PRESENT)
+                .unmarkAttendance(new Week(2));
+
+        assertEquals(fromMap, fromMarks);
+        assertEquals(fromMap.hashCode(), fromMarks.hashCode());
+        assertEquals(map, fromMarks.getAllAttendances());
+    }
+
+    @Test
+    public void fromBits_toBits_roundTrips() {
+        AttendanceRecord record = new AttendanceRecord()
+                .markAttendance(Week.of(1), AttendanceStatus.PRESENT)
+                .markAttendance(Week.of(7), AttendanceStatus.ABSENT)
+                .markAttendance(Week.of(Week.MAX_WEEK), AttendanceStatus.UNMARK);
+        assertEquals(record, AttendanceRecord.fromBits(record.toBits()));
+        assertEquals(new AttendanceRecord(), AttendanceRecord.fromBits(0));
+    }
+
+    @Test
+    public void fromBits_bitsOutsideWeeks_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, AttendanceRecord.MESSAGE_INVALID_BITS, () ->
+                AttendanceRecord.fromBits(1 << (Week.MAX_WEEK * 2)));
+    }
 }
@@ -3,7 +3,9 @@ package seedu.address.model.attendance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +23,18 @@ public class WeekTest {
         assertEquals(13, week.value);
     }
 
+    @Test
+    public void of_validWeek_returnsCanonicalInstance() {
+        assertSame(Week.of(7), Week.of(7));
+        assertEquals(new Week(7), Week.of(7));
+    }
+
+    @Test
+    public void of_invalidWeek_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Week.of(0));
+        assertThrows(IllegalArgumentException.class, () -> Week.of(14));
+    }
+
     @Test
     public void equals_sameValue_returnsTrue() {
         Week week1 = new Week(5);
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class GradeTest {
@@ -135,4 +137,18 @@ public class GradeTest {
         assertEquals("Midterm", grade.assignmentName);
         assertEquals("85", grade.score);
     }
+
+    @Test
+    public void isValidGrade_agreesWithValidationRegex() {
+        Random random = new Random(0);
+        String alphabet = "0019 -\u0661";
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder test = new StringBuilder();
+            for (int length = random.nextInt(5); length > 0; length--) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = test.toString();
+            assertEquals(value.matches(Grade.VALIDATION_REGEX), Grade.isValidGrade(value), value);
+        }
+    }
 }
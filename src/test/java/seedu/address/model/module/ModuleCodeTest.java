@@ -1,9 +1,13 @@
 package seedu.address.model.module;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ModuleCodeTest {
@@ -18,6 +22,13 @@ public class ModuleCodeTest {
         assertThrows(IllegalArgumentException.class, () -> new ModuleCode(invalidModuleCode));
     }
 
+    @Test
+    public void of_equalModuleCodes_returnsSameInstance() {
+        assertSame(ModuleCode.of("CS2103T"), ModuleCode.of(new String("CS2103T")));
+        assertEquals(new ModuleCode("CS2103T"), ModuleCode.of("CS2103T"));
+        assertThrows(IllegalArgumentException.class, () -> ModuleCode.of("cs2103t"));
+    }
+
     @Test
     public void isValidModuleCode() {
         assertThrows(NullPointerException.class, () -> ModuleCode.isValidModuleCode(null));
@@ -69,4 +80,18 @@ public class ModuleCodeTest {
         assertFalse(moduleCode.equals(5.0f));
         assertFalse(moduleCode.equals(new ModuleCode("CS2103T")));
     }
+
+    @Test
+    public void isValidModuleCode_agreesWithValidationRegex() {
+        Random random = new Random(0);
+        String alphabet = "ACZa09 \u0661";
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder test = new StringBuilder();
+            for (int length = random.nextInt(11); length > 0; length--) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = test.toString();
+            assertEquals(value.matches(ModuleCode.VALIDATION_REGEX), ModuleCode.isValidModuleCode(value), value);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void matcherFor_typicalPersons_agreesWithPredicate() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(nameTokenIndex::add);
+
+        List<List<String>> keywordLists = Arrays.asList(Collections.singletonList("alice"),
+                Arrays.asList("KURZ", "elle"), Arrays.asList("meier", "Pauline"), Collections.singletonList("Ali"));
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Person> matcher = nameTokenIndex.matcherFor(predicate.getKeywords());
+
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), matcher.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void matcherFor_personRenamed_seesChanges() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").build();
+        Person renamedAlex = new PersonBuilder().withName("Alexander Yeoh").build();
+        Predicate<Person> matcher = nameTokenIndex.matcherFor(Collections.singletonList("alex"));
+
+        nameTokenIndex.add(alex);
+        assertTrue(matcher.test(alex));
+
+        nameTokenIndex.remove(alex);
+        nameTokenIndex.add(renamedAlex);
+        assertFalse(matcher.test(alex));
+        assertFalse(matcher.test(renamedAlex));
+    }
+
+    @Test
+    public void matcherFor_multiWordKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                nameTokenIndex.matcherFor(Collections.singletonList("alex yeoh")));
+    }
+}
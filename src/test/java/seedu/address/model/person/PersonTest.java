@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,6 +13,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.HashSet;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.attendance.AttendanceRecord;
@@ -128,6 +131,37 @@ public class PersonTest {
         assertTrue(person.getAttendanceRecord().isEmpty());
     }
 
+    @Test
+    public void withAttendanceRecord_studentWithFields_replacesOnlyAttendance() {
+        Person person = new PersonBuilder().withStudentId("A0123456X").withModuleCodes("CS2103T")
+                .withTags("friends").withGrade("Midterm", "80").withRemark("Quiet").build();
+        AttendanceRecord attendanceRecord = new AttendanceRecord()
+                .markAttendance(Week.of(3), AttendanceStatus.PRESENT);
+
+        Person updated = person.withAttendanceRecord(attendanceRecord);
+
+        assertEquals(new PersonBuilder(person).withAttendance(Week.of(3), AttendanceStatus.PRESENT).build(), updated);
+        assertEquals(person, person.withAttendanceRecord(person.getAttendanceRecord()));
+    }
+
+    @Test
+    public void withTagsAndWithGrades_personWithPhoneAndAddress_keepsOtherFields() {
+        Person person = BOB.withAttendanceRecord(
+                new AttendanceRecord().markAttendance(Week.of(1), AttendanceStatus.ABSENT));
+
+        Person retagged = person.withTags(new HashSet<>(new PersonBuilder().withTags("tutor").build().getTags()));
+        Person regraded = person.withGrades(
+                new HashSet<>(new PersonBuilder().withGrade("Quiz", "10").build().getGrades()));
+
+        assertEquals(person.getPhone(), retagged.getPhone());
+        assertEquals(person.getAddress(), retagged.getAddress());
+        assertSame(person.getAttendanceRecord(), retagged.getAttendanceRecord());
+        assertEquals(person.getGrades(), retagged.getGrades());
+        assertEquals(new PersonBuilder().withTags("tutor").build().getTags(), retagged.getTags());
+        assertEquals(person.getTags(), regraded.getTags());
+        assertEquals(1, regraded.getGrades().size());
+    }
+
     @Test
     public void equals_withAttendanceRecord() {
         AttendanceRecord attendanceRecord1 = new AttendanceRecord();
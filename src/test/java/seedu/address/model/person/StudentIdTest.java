@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class StudentIdTest {
@@ -60,4 +63,18 @@ public class StudentIdTest {
         // different values -> returns false
         assertFalse(studentId.equals(new StudentId("A0234567Y")));
     }
+
+    @Test
+    public void isValidStudentId_agreesWithValidationRegex() {
+        Random random = new Random(0);
+        String alphabet = "AZ09\u0661";
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder test = new StringBuilder();
+            for (int length = random.nextInt(11); length > 0; length--) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = test.toString();
+            assertEquals(value.matches(StudentId.VALIDATION_REGEX), StudentId.isValidStudentId(value), value);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void findTagsContaining_shortAndLongKeywords_returnsMatchingTags() {
+        tagIndex.add(new PersonBuilder().withTags("Struggling", "inactive").build());
+        tagIndex.add(new PersonBuilder().withName("Bob").withTags("active").build());
+
+        assertEquals(new HashSet<>(Arrays.asList("struggling")), tagIndex.findTagsContaining("strug"));
+        assertEquals(new HashSet<>(Arrays.asList("inactive", "active")), tagIndex.findTagsContaining("act"));
+        assertEquals(new HashSet<>(Arrays.asList("inactive", "active")), tagIndex.findTagsContaining("ac"));
+        assertEquals(Collections.emptySet(), tagIndex.findTagsContaining("xyz"));
+    }
+
+    @Test
+    public void findTagsContaining_sharedGramsButNoSubstring_returnsEmpty() {
+        tagIndex.add(new PersonBuilder().withTags("abcXbcd").build());
+
+        // "abcd" shares every trigram with "abcxbcd" without being a substring of it
+        assertEquals(Collections.emptySet(), tagIndex.findTagsContaining("abcd"));
+    }
+
+    @Test
+    public void remove_lastHolderOfTag_dropsTagFromVocabulary() {
+        Person person = new PersonBuilder().withTags("struggling").build();
+        tagIndex.add(person);
+        tagIndex.remove(person);
+
+        assertEquals(Collections.emptySet(), tagIndex.findTagsContaining("strug"));
+    }
+
+    @Test
+    public void matcherFor_typicalPersons_agreesWithPredicate() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(tagIndex::add);
+
+        for (String[] keywords : new String[][] {{"friends"}, {"owesMoney", "friends"}, {"FRI"}, {"e"}, {"none"}}) {
+            Set<Tag> tags = new HashSet<>();
+            Arrays.stream(keywords).map(Tag::new).forEach(tags::add);
+            PersonHasAllTagsPredicate predicate = new PersonHasAllTagsPredicate(tags);
+            Predicate<Person> matcher = tagIndex.matcherFor(predicate.getTagKeywords());
+
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), matcher.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void matcherFor_indexChangesAfterCreation_seesChanges() {
+        Person alice = new PersonBuilder().withTags("friends").build();
+        Predicate<Person> matcher = tagIndex.matcherFor(Collections.singleton("friend"));
+        assertFalse(matcher.test(alice));
+
+        tagIndex.add(alice);
+        assertTrue(matcher.test(alice));
+    }
+}
@@ -11,10 +11,16 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -58,6 +64,33 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+    }
+
+    @Test
+    public void addAll_uniquePersons_appendsAsSingleChange() {
+        uniquePersonList.add(ALICE);
+        Person carl = new PersonBuilder().withName("Carl").withStudentId("A0000003C").build();
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, carl));
+
+        assertEquals(Arrays.asList(ALICE, BOB, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniquePersonList.contains(carl));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +195,45 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_replacements_replacesInPlaceWithSingleChange() {
+        Person carl = new PersonBuilder().withName("Carl").withStudentId("A0000003C").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(carl).withEmail("carl@example.com").build();
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(carl, editedCarl);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.setPersons(replacements);
+
+        assertEquals(Arrays.asList(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(Optional.of(editedCarl), uniquePersonList.getPersonByEmail(new Email("carl@example.com")));
+    }
+
+    @Test
+    public void setPersons_replacementTargetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        replacements.put(BOB, BOB);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(replacements));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_replacementsCreateDuplicate_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(BOB, new PersonBuilder(ALICE).withEmail("other@example.com").build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(replacements));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -333,4 +405,147 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(alice1));
         assertTrue(uniquePersonList.contains(alice2));
     }
+
+    @Test
+    public void getPersonByStudentId_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getPersonByStudentId(null));
+    }
+
+    @Test
+    public void getPersonByStudentId_afterMutations_returnsCurrentPerson() {
+        Person alice = new PersonBuilder().withName("Alice").withStudentId("A0123456X").build();
+        uniquePersonList.add(alice);
+        assertEquals(Optional.of(alice), uniquePersonList.getPersonByStudentId(new StudentId("A0123456X")));
+
+        // changing the student ID moves the index entry
+        Person editedAlice = new PersonBuilder(alice).withStudentId("A9999999Z").build();
+        uniquePersonList.setPerson(alice, editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByStudentId(new StudentId("A0123456X")));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonByStudentId(new StudentId("A9999999Z")));
+
+        // removal drops the index entry
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByStudentId(new StudentId("A9999999Z")));
+
+        // bulk replacement rebuilds the index
+        uniquePersonList.setPersons(Collections.singletonList(alice));
+        assertEquals(Optional.of(alice), uniquePersonList.getPersonByStudentId(new StudentId("A0123456X")));
+    }
+
+    @Test
+    public void contains_nonStudentNameFreedByRemoval_returnsFalse() {
+        Person charlie = new PersonBuilder().withName("Charlie").withStudentId().build();
+        uniquePersonList.add(charlie);
+        uniquePersonList.remove(charlie);
+        assertFalse(uniquePersonList.contains(charlie));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateNonStudentNames_throwsDuplicatePersonException() {
+        Person charlie = new PersonBuilder().withName("Charlie").withStudentId().build();
+        Person charlieVariant = new PersonBuilder(charlie).withEmail("charlie@example.com").build();
+
+        List<Person> listWithDuplicateNames = Arrays.asList(charlie, charlieVariant);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateNames));
+    }
+
+    @Test
+    public void setPersons_nonStudentAndStudentWithSameName_success() {
+        Person charlie = new PersonBuilder().withName("Charlie").withStudentId().build();
+        Person charlieStudent = new PersonBuilder().withName("Charlie").withStudentId("A0123456X").build();
+
+        uniquePersonList.setPersons(Arrays.asList(charlie, charlieStudent));
+        assertEquals(2, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void getPersonByEmail_differentCase_returnsPerson() {
+        Person alice = new PersonBuilder().withName("Alice").withStudentId("A0123456X")
+                .withEmail("alice@u.nus.edu").build();
+        uniquePersonList.add(alice);
+
+        assertEquals(Optional.of(alice), uniquePersonList.getPersonByEmail(new Email("Alice@U.NUS.edu")));
+    }
+
+    @Test
+    public void getPersonByEmail_emailsDifferingOnlyInCase_findsRemainingPerson() {
+        Person alice = new PersonBuilder().withName("Alice").withStudentId("A0123456X")
+                .withEmail("alice@u.nus.edu").build();
+        Person bob = new PersonBuilder().withName("Bob").withStudentId("A9999999Z")
+                .withEmail("ALICE@u.nus.edu").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+        assertEquals(Optional.of(alice), uniquePersonList.getPersonByEmail(new Email("Alice@u.nus.edu")));
+
+        uniquePersonList.remove(alice);
+        assertEquals(Optional.of(bob), uniquePersonList.getPersonByEmail(new Email("alice@u.nus.edu")));
+
+        uniquePersonList.remove(bob);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByEmail(new Email("alice@u.nus.edu")));
+    }
+
+    @Test
+    public void getPersonByEmail_afterEmailChange_returnsUpdatedPerson() {
+        Person alice = new PersonBuilder().withName("Alice").withStudentId("A0123456X")
+                .withEmail("alice@u.nus.edu").build();
+        uniquePersonList.add(alice);
+
+        Person editedAlice = new PersonBuilder(alice).withEmail("alice.tan@u.nus.edu").build();
+        uniquePersonList.setPerson(alice, editedAlice);
+
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByEmail(new Email("alice@u.nus.edu")));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonByEmail(new Email("alice.tan@u.nus.edu")));
+    }
+
+    @Test
+    public void getPersonsInModule_afterMutations_reflectsCurrentEnrolment() {
+        ModuleCode cs2103t = new ModuleCode("CS2103T");
+        Person alice = new PersonBuilder().withName("Alice").withStudentId("A0123456X")
+                .withModuleCode("CS2103T").build();
+        Person bob = new PersonBuilder().withName("Bob").withStudentId("A9999999Z")
+                .withModuleCode("CS2100").build();
+        Set<Person> enrolled = uniquePersonList.getPersonsInModule(cs2103t);
+
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+        assertEquals(1, enrolled.size());
+        assertTrue(enrolled.contains(alice));
+
+        Person movedBob = new PersonBuilder(bob).withModuleCode("CS2103T").build();
+        uniquePersonList.setPerson(bob, movedBob);
+        assertEquals(2, enrolled.size());
+        assertTrue(enrolled.contains(movedBob));
+
+        uniquePersonList.remove(alice);
+        assertEquals(1, enrolled.size());
+        assertFalse(enrolled.contains(alice));
+
+        uniquePersonList.setPersons(Collections.emptyList());
+        assertTrue(enrolled.isEmpty());
+    }
+
+    @Test
+    public void getPersonsInModule_moduleEmptiedAndRefilled_viewStaysLive() {
+        ModuleCode cs2103t = new ModuleCode("CS2103T");
+        Person alice = new PersonBuilder().withName("Alice").withStudentId("A0123456X")
+                .withModuleCode("CS2103T").build();
+        Set<Person> enrolled = uniquePersonList.getPersonsInModule(cs2103t);
+
+        uniquePersonList.add(alice);
+        uniquePersonList.remove(alice);
+        assertTrue(enrolled.isEmpty());
+
+        uniquePersonList.add(alice);
+        assertEquals(1, enrolled.size());
+        assertTrue(enrolled.contains(alice));
+        assertEquals(enrolled, uniquePersonList.getPersonsInModule(cs2103t));
+    }
+
+    @Test
+    public void getPersonsInModule_modifyView_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ALICE);
+        Set<Person> enrolled = uniquePersonList.getPersonsInModule(ALICE.getModuleCodes().iterator().next());
+        assertThrows(UnsupportedOperationException.class, () -> enrolled.remove(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> enrolled.add(BOB));
+        assertThrows(UnsupportedOperationException.class, enrolled::clear);
+    }
 }
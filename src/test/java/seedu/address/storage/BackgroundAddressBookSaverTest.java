@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BackgroundAddressBookSaverTest {
+
+    @Test
+    public void requestSave_burstWhileWriting_coalescesIntoOneWriteOfLatestSnapshot() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage(firstWriteStarted, releaseFirstWrite);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        firstWriteStarted.await();
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(CARL);
+        saver.requestSave(addressBook);
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(List.of(List.of(ALICE), List.of(ALICE, BENSON, CARL)), storage.savedPersons);
+    }
+
+    @Test
+    public void requestSave_unchangedVersion_skipsWrite() {
+        RecordingStorage storage = new RecordingStorage(null, null);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        saver.requestSave(addressBook);
+        saver.flush();
+        saver.requestSave(addressBook);
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        saver.flush();
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(List.of(List.of(), List.of(ALICE)), storage.savedPersons);
+    }
+
+    @Test
+    public void requestSave_previousWriteFailed_retriesUnchangedVersion() {
+        List<ReadOnlyAddressBook> attempts = new CopyOnWriteArrayList<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new RecordingStorage(null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                attempts.add(addressBook);
+                throw new IOException("disk full");
+            }
+        });
+        AddressBook addressBook = new AddressBook();
+
+        saver.requestSave(addressBook);
+        saver.flush();
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(2, attempts.size());
+    }
+
+    @Test
+    public void requestSave_sameVersionWhileWriteFails_writesAgain() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage(firstWriteStarted, releaseFirstWrite) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                super.saveAddressBook(addressBook);
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("disk full");
+                }
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.requestSave(addressBook);
+        firstWriteStarted.await();
+        saver.requestSave(addressBook);
+        releaseFirstWrite.countDown();
+        saver.flush();
+        assertEquals(List.of(List.of(ALICE), List.of(ALICE)), storage.savedPersons);
+
+        // The second write succeeded, so the unchanged version is not written again
+        saver.requestSave(addressBook);
+        saver.flush();
+        assertEquals(2, storage.savedPersons.size());
+    }
+
+    @Test
+    public void requestSave_storageFails_reportsToFailureHandler() {
+        IOException failure = new IOException("disk full");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new RecordingStorage(null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw failure;
+            }
+        });
+        List<IOException> reported = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(reported::add);
+
+        saver.requestSave(new AddressBook());
+        saver.shutdown();
+
+        assertEquals(List.of(failure), reported);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the persons of every saved address book.
+     * The first save can be held until {@code releaseFirstWrite} is counted down.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<List<Person>> savedPersons = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstWriteStarted;
+        private final CountDownLatch releaseFirstWrite;
+
+        RecordingStorage(CountDownLatch firstWriteStarted, CountDownLatch releaseFirstWrite) {
+            super(Paths.get("unused.json"));
+            this.firstWriteStarted = firstWriteStarted;
+            this.releaseFirstWrite = releaseFirstWrite;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            savedPersons.add(List.copyOf(addressBook.getPersonList()));
+            if (savedPersons.size() == 1 && firstWriteStarted != null) {
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
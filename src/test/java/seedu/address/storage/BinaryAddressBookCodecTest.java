@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.attendance.Week;
+import seedu.address.model.consultation.Consultation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookCodecTest {
+
+    @Test
+    public void readWrite_typicalAddressBook_roundTrips() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(addressBook, read(write(addressBook)));
+    }
+
+    @Test
+    public void readWrite_personsWithEveryField_roundTrips() throws Exception {
+        Person student = new PersonBuilder().withName("Zoe Tan").withEmail("zoe@example.com")
+                .withStudentId("A0999999Z").withModuleCodes("CS2103T", "CS2101").withTags("tutorial", "friends")
+                .withGrades("Quiz 1:85", "Midterm:05").withRemark("Needs help with streams")
+                .withAttendance(Week.of(1), AttendanceStatus.PRESENT)
+                .withAttendance(Week.of(7), AttendanceStatus.ABSENT)
+                .withAttendance(Week.of(Week.MAX_WEEK), AttendanceStatus.UNMARK).build();
+        Person studentWithConsultations = new Person(student.getName(), student.getStudentId(), student.getEmail(),
+                student.getModuleCodes(), student.getTags(), student.getAttendanceRecord(), student.getGrades(),
+                List.of(new Consultation(LocalDateTime.of(2025, 10, 3, 14, 30, 15, 123))), student.getRemark());
+        Person personWithGrades = new PersonBuilder(ALICE).withGrades("Quiz 1:100")
+                .withAttendance(Week.of(2), AttendanceStatus.ABSENT).build().withRemark(new Remark("Class rep"));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(studentWithConsultations);
+        addressBook.addPerson(personWithGrades);
+
+        assertEquals(addressBook, read(write(addressBook)));
+    }
+
+    @Test
+    public void readWrite_personWithPhoneAndAddress_roundTripsEveryField() throws Exception {
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags(), ALICE.getStudentId(), ALICE.getModuleCodes(),
+                ALICE.getAttendanceRecord().markAttendance(Week.of(3), AttendanceStatus.PRESENT),
+                new PersonBuilder().withGrades("Quiz 1:90").build().getGrades(),
+                List.of(new Consultation(LocalDateTime.of(2025, 10, 3, 14, 30))), new Remark("Class rep"));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+
+        AddressBook readBack = read(write(addressBook));
+        assertEquals(addressBook, readBack);
+        assertEquals(person.getConsultations(), readBack.getPersonList().get(0).getConsultations());
+        assertEquals(readBack, new JsonSerializableAddressBook(readBack).toModelType());
+    }
+
+    @Test
+    public void read_sharedValues_decodedToCanonicalInstances() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        AddressBook readBack = read(write(addressBook));
+        Tag friends = Tag.of("friends");
+        assertTrue(readBack.getPersonList().stream().allMatch(person -> person.getTags().stream()
+                .filter(friends::equals).allMatch(tag -> tag == friends)));
+        assertSame(readBack.getPersonList().get(0).getModuleCodes().iterator().next(),
+                readBack.getPersonList().get(1).getModuleCodes().iterator().next());
+    }
+
+    @Test
+    public void isBinary_detectsFormatWithoutConsumingInput() throws Exception {
+        InputStream binary = new BufferedInputStream(new ByteArrayInputStream(write(getTypicalAddressBook())));
+        assertTrue(BinaryAddressBookCodec.isBinary(binary));
+        assertEquals(getTypicalAddressBook(), BinaryAddressBookCodec.read(binary));
+
+        assertFalse(BinaryAddressBookCodec.isBinary(new BufferedInputStream(
+                new ByteArrayInputStream("{\"persons\": []}".getBytes(UTF_8)))));
+        assertFalse(BinaryAddressBookCodec.isBinary(new BufferedInputStream(new ByteArrayInputStream(new byte[0]))));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIOException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        bytes[BinaryAddressBookCodec.MAGIC.length] = BinaryAddressBookCodec.FORMAT_VERSION + 1;
+        assertThrows(IOException.class, () -> read(bytes));
+    }
+
+    @Test
+    public void read_truncated_throwsIOException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertThrows(IOException.class, () -> read(truncated));
+    }
+
+    @Test
+    public void read_invalidValue_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withName("Amelia").build());
+        byte[] bytes = write(addressBook);
+        int nameIndex = indexOf(bytes, "Amelia".getBytes(UTF_8));
+        bytes[nameIndex + 2] = '*';
+        assertThrows(IllegalValueException.class, () -> read(bytes));
+    }
+
+    @Test
+    public void read_invalidConsultationTime_throwsIOException() throws Exception {
+        Person student = new PersonBuilder().withStudentId("A0999999Z").withModuleCodes("CS2103T").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new Person(student.getName(), student.getStudentId(), student.getEmail(),
+                student.getModuleCodes(), student.getTags(), student.getAttendanceRecord(), student.getGrades(),
+                List.of(new Consultation(LocalDateTime.of(2025, 10, 3, 14, 30, 15, 123456789))), null));
+        byte[] bytes = write(addressBook);
+        int nanoIndex = indexOf(bytes, new byte[] {0x07, 0x5B, (byte) 0xCD, 0x15});
+        bytes[nanoIndex] = 0x7F;
+        assertThrows(IOException.class, () -> read(bytes));
+    }
+
+    @Test
+    public void read_studentWithoutModules_throwsIllegalValueException() throws Exception {
+        Person student = new PersonBuilder().withStudentId("A0999999Z").withModuleCodes("CS2103T").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new Person(student.getName(), student.getStudentId(), student.getEmail(),
+                Set.of(), student.getTags(), student.getAttendanceRecord(), student.getGrades(),
+                student.getConsultations(), student.getRemark()));
+        byte[] bytes = write(addressBook);
+        String expectedMessage = String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                Phone.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> read(bytes));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Not found");
+    }
+
+    private static byte[] write(AddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static AddressBook read(byte[] bytes) throws Exception {
+        return BinaryAddressBookCodec.read(new ByteArrayInputStream(bytes));
+    }
+}
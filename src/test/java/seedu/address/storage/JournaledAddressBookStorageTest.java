@@ -0,0 +1,307 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(getSnapshotFilePath(filePath));
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withTags("tutor").build());
+        original.removePerson(CARL);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(getSnapshotFilePath(filePath)));
+        assertFalse(Files.exists(filePath));
+        assertEquals(4, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        readBack.addPerson(HOON);
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(3, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFullAfterReopening_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 3);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, readJournal(filePath).size());
+
+        // The reopened storage counts the replayed records towards the threshold
+        storage = new JournaledAddressBookStorage(filePath, 3);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.setPerson(ALICE, new PersonBuilder(ALICE).withTags("tutor").build());
+        readBack.setPerson(BENSON, new PersonBuilder(BENSON).withTags("tutor").build());
+        storage.saveAddressBook(readBack);
+
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_mostPersonsChanged_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.setPersons(Arrays.asList(HOON, IDA));
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournal(filePath).size());
+        try (InputStream in = Files.newInputStream(getSnapshotFilePath(filePath))) {
+            assertEquals(original, BinaryAddressBookCodec.read(in));
+        }
+    }
+
+    @Test
+    public void readAddressBook_jsonDataFile_migratedToSnapshotOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] json = Files.readAllBytes(filePath);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(getSnapshotFilePath(filePath)))) {
+            assertTrue(BinaryAddressBookCodec.isBinary(in));
+        }
+        assertArrayEquals(json, Files.readAllBytes(filePath));
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileNewerThanSnapshot_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // An older data file is left alone
+        AddressBook edited = new AddressBook();
+        edited.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        setLastModified(filePath, -60);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // A data file edited after the last save is read, and replaces the snapshot on the next save
+        setLastModified(filePath, 60);
+        storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(edited, readBack);
+
+        readBack.addPerson(ALICE);
+        storage.saveAddressBook(readBack);
+        setLastModified(filePath, -60);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void exportAddressBook_writesJsonDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.exportAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherLocation_writesJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path exportPath = testFolder.resolve("Export.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original, exportPath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(exportPath)));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        try (OutputStream out = Files.newOutputStream(getSnapshotFilePath(filePath))) {
+            BinaryAddressBookCodec.write(replacement, out);
+        }
+
+        assertEquals(replacement, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        // The changes that could not be replayed are kept aside instead of being overwritten by the next save
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(getSnapshotFilePath(filePath));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalBackupFilePath(journalPath)).size());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndNextSaveCompacts() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(getJournalFilePath(filePath), "{\"operation\":\"INS".getBytes(),
+                StandardOpenOption.APPEND);
+
+        storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordOutsideAddressBook_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(getJournalFilePath(filePath),
+                "{\"operation\":\"REMOVE\",\"index\":100}\n{}\n".getBytes(), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void diff_reorderedPersons_returnsNull() {
+        assertNull(JournaledAddressBookStorage.diff(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, ALICE)));
+    }
+
+    @Test
+    public void diff_editsInTheMiddle_replaysToNewList() throws Exception {
+        Person editedBenson = new PersonBuilder(BENSON).withTags("tutor").build();
+        List<Person> oldPersons = Arrays.asList(ALICE, BENSON, CARL, HOON);
+        List<Person> newPersons = Arrays.asList(ALICE, editedBenson, IDA, HOON);
+
+        List<JsonAdaptedJournalRecord> records = JournaledAddressBookStorage.diff(oldPersons, newPersons);
+        List<Person> replayed = new ArrayList<>(oldPersons);
+        for (JsonAdaptedJournalRecord record : records) {
+            record.applyTo(replayed);
+        }
+
+        assertEquals(2, records.size());
+        assertEquals(newPersons, replayed);
+    }
+
+    @Test
+    public void getSnapshotFilePath_replacesExtension() {
+        assertEquals(testFolder.resolve("addressbook.snapshot"),
+                getSnapshotFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("addressbook.snapshot"),
+                getSnapshotFilePath(testFolder.resolve("addressbook")));
+        assertEquals(testFolder.resolve("data.snapshot.snapshot"),
+                getSnapshotFilePath(testFolder.resolve("data.snapshot")));
+    }
+
+    private static Path getSnapshotFilePath(Path filePath) {
+        return JournaledAddressBookStorage.getSnapshotFilePath(filePath);
+    }
+
+    private static Path getJournalFilePath(Path filePath) {
+        return JournaledAddressBookStorage.getJournalFilePath(getSnapshotFilePath(filePath));
+    }
+
+    private static List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Moves the last modified time of {@code path} by {@code seconds} from the time it was last saved.
+     */
+    private static void setLastModified(Path path, long seconds) throws Exception {
+        Path journalPath = getJournalFilePath(path);
+        Instant lastSaved = Files.getLastModifiedTime(journalPath).toInstant();
+        Files.setLastModifiedTime(path, FileTime.from(lastSaved.plusSeconds(seconds)));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -11,6 +12,9 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.AttendanceStatus;
+import seedu.address.model.attendance.Week;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -176,4 +180,19 @@ public class JsonAdaptedPersonTest {
         // Should not throw exception, creates a person with studentId but no moduleCodes
         person.toModelType();
     }
+
+    @Test
+    public void toModelType_repeatedWeekAttendance_laterAttendanceWins() throws Exception {
+        List<JsonAdaptedAttendance> attendances = List.of(
+                new JsonAdaptedAttendance(Week.of(1), AttendanceStatus.PRESENT),
+                new JsonAdaptedAttendance(Week.of(2), AttendanceStatus.PRESENT),
+                new JsonAdaptedAttendance(Week.of(1), AttendanceStatus.ABSENT));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_STUDENT_ID, VALID_MODULE_CODES, VALID_TAGS,
+                attendances, VALID_GRADES, VALID_CONSULTATIONS, null);
+
+        AttendanceRecord attendanceRecord = person.toModelType().getAttendanceRecord();
+        assertEquals(AttendanceStatus.ABSENT, attendanceRecord.getAttendance(Week.of(1)));
+        assertEquals(AttendanceStatus.PRESENT, attendanceRecord.getAttendance(Week.of(2)));
+    }
 }
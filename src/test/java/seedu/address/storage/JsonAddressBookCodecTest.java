@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+
+public class JsonAddressBookCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(getTypicalAddressBook(), JsonAddressBookCodec.read(in));
+        }
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonAddressBookCodec.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonAddressBookCodec.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        String json = "{\"version\": {\"major\": [1, 2]}, \"persons\": [], \"extra\": \"value\"}";
+        assertEquals(new AddressBook(), read(json));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIOException() {
+        assertThrows(IOException.class, () -> read("[]"));
+    }
+
+    @Test
+    public void read_truncated_throwsIOException() {
+        assertThrows(IOException.class, () -> read("{\"persons\": ["));
+    }
+
+    @Test
+    public void read_invalidPersonBeforeTruncation_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                Email.class.getSimpleName()), () -> read("{\"persons\": [{\"name\": \"Amy\"}, {\"name\""));
+    }
+
+    @Test
+    public void write_typicalAddressBook_matchesBoundSerialization() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookCodec.write(addressBook, out);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), out.toString(UTF_8));
+        assertEquals(addressBook, JsonAddressBookCodec.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    private static AddressBook read(String json) throws Exception {
+        return JsonAddressBookCodec.read(new ByteArrayInputStream(json.getBytes(UTF_8)));
+    }
+}
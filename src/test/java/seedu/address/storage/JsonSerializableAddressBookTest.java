@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +50,33 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelTypes_manyPersons_keepsOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withStudentId(String.format("A%07dZ", i))
+                    .withModuleCode("CS2103T").build());
+        }
+        List<JsonAdaptedPerson> adaptedPersons = persons.stream().map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+
+        assertEquals(persons, JsonSerializableAddressBook.toModelTypes(adaptedPersons));
+    }
+
+    @Test
+    public void toModelTypes_severalInvalidPersons_reportsFirstInvalidPerson() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            adaptedPersons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i)
+                    .withStudentId(String.format("A%07dZ", i)).withModuleCode("CS2103T").build()));
+        }
+        adaptedPersons.set(1500, new JsonAdaptedPerson("Valid Name", null, "example.com", null, "A1234567W",
+                List.of("CS2103T"), null, null, null, null, null));
+        adaptedPersons.set(1800, new JsonAdaptedPerson("R@chel", null, "rachel@example.com", null, "A1234567W",
+                List.of("CS2103T"), null, null, null, null, null));
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.toModelTypes(adaptedPersons));
+    }
+
 }
@@ -0,0 +1,58 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+public class PersonViewModelCacheTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+    private final PersonViewModelCache cache = new PersonViewModelCache(persons);
+
+    @Test
+    public void get_personInList_cached() {
+        PersonViewModel viewModel = cache.get(ALICE);
+        assertSame(ALICE, viewModel.getPerson());
+        assertSame(viewModel, cache.get(ALICE));
+    }
+
+    @Test
+    public void get_personNotInList_notCached() {
+        PersonViewModel viewModel = cache.get(BENSON);
+        assertSame(BENSON, viewModel.getPerson());
+        assertNotSame(viewModel, cache.get(BENSON));
+    }
+
+    @Test
+    public void get_personFilteredOutOfList_stillCached() {
+        PersonViewModel viewModel = cache.get(ALICE);
+        persons.remove(ALICE);
+        assertSame(viewModel, cache.get(ALICE));
+        persons.add(ALICE);
+        assertSame(viewModel, cache.get(ALICE));
+    }
+
+    @Test
+    public void get_evictedPerson_notCached() {
+        PersonViewModel viewModel = cache.get(ALICE);
+        persons.remove(ALICE);
+        cache.evict(List.of(ALICE));
+        assertNotSame(viewModel, cache.get(ALICE));
+        assertNotSame(cache.get(ALICE), cache.get(ALICE));
+    }
+
+    @Test
+    public void get_personAddedToList_cached() {
+        persons.add(BENSON);
+        assertSame(cache.get(BENSON), cache.get(BENSON));
+    }
+}
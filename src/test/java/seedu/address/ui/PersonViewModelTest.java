@@ -0,0 +1,44 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonViewModelTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonViewModel(null));
+    }
+
+    @Test
+    public void constructor_student_precomputesDisplayText() {
+        Person person = new PersonBuilder().withName("Amy Bee").withStudentId("A1234567X")
+                .withModuleCodes("CS2103T").withGrade("Quiz", "80").withGrade("Midterm", "75")
+                .withTags("struggling", "active").withRemark("Sits in front").build();
+        PersonViewModel viewModel = new PersonViewModel(person);
+
+        assertSame(person, viewModel.getPerson());
+        assertEquals("Amy Bee", viewModel.getName());
+        assertEquals("A1234567X", viewModel.getStudentId());
+        assertEquals("CS2103T", viewModel.getModuleCodes());
+        assertEquals(List.of("Midterm: 75", "Quiz: 80"), viewModel.getGrades());
+        assertEquals(List.of("active", "struggling"), viewModel.getTags());
+        assertEquals("Sits in front", viewModel.getRemark());
+        assertEquals(PersonViewModel.NO_CONSULTATIONS, viewModel.getConsultations());
+        assertSame(person.getAttendanceRecord(), viewModel.getAttendanceRecord());
+    }
+
+    @Test
+    public void constructor_noModules_showsPlaceholder() {
+        Person person = new PersonBuilder().withModuleCodes().build();
+        assertEquals(PersonViewModel.NO_MODULES, new PersonViewModel(person).getModuleCodes());
+    }
+}